@@ -7,16 +7,32 @@ package de.uni_passau.fim.se2.pipeline_helper;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.stream.Stream;
 
 import de.uni_passau.fim.se2.pipeline_helper.checkers.*;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.BuiltInRewriter;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogChecker;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.LineRewriter;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.LiteralRewriter;
 import de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists.FileExistsChecker;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists.GlobRequirement;
 import de.uni_passau.fim.se2.pipeline_helper.checkers.line_length.LineLengthChecker;
 import de.uni_passau.fim.se2.pipeline_helper.helpers.CheckerResultWriter;
-import de.uni_passau.fim.se2.pipeline_helper.helpers.FilteredFilesStream;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileGlobs;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileIndex;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileList;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileWalker;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.GitIndex;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.ParallelTasks;
 import de.uni_passau.fim.se2.pipeline_helper.model.Checker;
+import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 import picocli.CommandLine;
 import picocli.CommandLine.*;
@@ -52,6 +68,22 @@ public final class Main implements Runnable {
 
     Path outputDirectory;
 
+    /**
+     * The files found by all subcommands of this invocation, so each directory tree is only walked once.
+     */
+    final FileIndex fileIndex = new FileIndex();
+
+    @Option(
+        names = { "-p", "--parallel" },
+        arity = "0..1",
+        fallbackValue = "0",
+        paramLabel = "<threads>",
+        description = """
+            Runs the checkers of all subcommands concurrently on at most this many threads.
+            Uses one thread per available processor if no number is given."""
+    )
+    Integer parallelism;
+
     /**
      * Sets the output directory according to the CLI parameter.
      *
@@ -80,10 +112,55 @@ public final class Main implements Runnable {
     }
 
     public static void main(String[] args) {
-        int exitCode = new CommandLine(new Main()).execute(args);
+        int exitCode = createCommandLine().execute(args);
         System.exit(exitCode);
     }
 
+    /**
+     * Creates the command line interface for this program.
+     *
+     * @return a command line that runs the checkers of all given subcommands.
+     */
+    public static CommandLine createCommandLine() {
+        return new CommandLine(new Main()).setExecutionStrategy(Main::executeCheckers);
+    }
+
+    private static int executeCheckers(final ParseResult parseResult) {
+        final Integer helpExitCode = CommandLine.executeHelpRequest(parseResult);
+        if (helpExitCode != null) {
+            return helpExitCode;
+        }
+
+        final Main main = (Main) parseResult.commandSpec().userObject();
+        if (main.parallelism == null || !parseResult.hasSubcommand()) {
+            return new RunLast().execute(parseResult);
+        }
+
+        return main.runInParallel(parseResult.subcommands());
+    }
+
+    private int runInParallel(final List<ParseResult> subcommands) {
+        try {
+            // building the checkers is cheap and may fail with parameter errors that should be reported in order
+            final List<Checker> checkers = new ArrayList<>(subcommands.size());
+            for (final ParseResult subcommand : subcommands) {
+                checkers.addAll(((CheckerSubcommand) subcommand.commandSpec().userObject()).prepareCheckers());
+            }
+
+            final List<List<CheckerResult>> results = ParallelTasks
+                .map(checkers, ParallelTasks.resolveParallelism(parallelism), CheckerSubcommand::runChecker);
+            CheckerResultWriter.writeFeedback(outputDirectory, results.stream().flatMap(List::stream).toList());
+
+            return 0;
+        }
+        catch (ParameterException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new ExecutionException(spec.commandLine(), "Could not run the checkers in parallel.", e);
+        }
+    }
+
     @Override
     public void run() {
         System.out.println("""
@@ -105,57 +182,333 @@ public final class Main implements Runnable {
 
         protected abstract Checker buildChecker() throws Exception;
 
+        /**
+         * Builds all checkers of this subcommand.
+         * <p>
+         * Subcommands producing more than one result can override this.
+         *
+         * @return the checkers to run in the given order.
+         * @throws Exception if the checkers cannot be built.
+         */
+        protected List<Checker> buildCheckers() throws Exception {
+            return List.of(buildChecker());
+        }
+
+        /**
+         * The maximum number of threads this subcommand may use to run its own checkers.
+         *
+         * @return the number of threads.
+         */
+        protected int parallelism() {
+            return 1;
+        }
+
         protected void validateParams() throws ParameterException {
             // intentionally empty, subcommands can optionally override with custom logic
         }
 
+        List<Checker> prepareCheckers() throws Exception {
+            validateParams();
+            return buildCheckers();
+        }
+
         @Override
         public Integer call() throws Exception {
-            validateParams();
+            final List<Checker> checkers = prepareCheckers();
+            final List<List<CheckerResult>> results = ParallelTasks
+                .map(checkers, parallelism(), CheckerSubcommand::runChecker);
+
+            CheckerResultWriter.writeFeedback(parent.outputDirectory, results.stream().flatMap(List::stream).toList());
 
-            final Checker checker = buildChecker();
-            CheckerResult result;
+            return 0;
+        }
+
+        static List<CheckerResult> runChecker(final Checker checker) {
             try {
-                result = checker.check();
+                final List<CheckerResult> results = checker.checkAll();
                 System.out.println("Successfully produced a checker result.");
+                return results;
             }
             catch (Exception e) {
                 e.printStackTrace();
-                result = new CheckerResult(
+                return List.of(crashedCheckerResult());
+            }
+        }
+
+        private static CheckerResult crashedCheckerResult() {
+            try {
+                return new CheckerResult(
                     "Error", false,
                     "The checker crashed. Please contact your instructor to resolve the issue."
                 );
             }
-
-            CheckerResultWriter.writeFeedback(parent.outputDirectory, result);
-
-            return 0;
+            catch (CheckerException e) {
+                // only thrown for blank names
+                throw new IllegalStateException(e);
+            }
         }
     }
 
     @Command(
         name = "dejagnu",
-        description = "Parses a Dejagnu log file and converts it into a result."
+        description = "Parses Dejagnu log files and converts each of them into a result."
     )
     static class DejagnuCheckerSubcommand extends CheckerSubcommand {
 
+        private static final String LOG_FILE_EXTENSION = "log";
+
         @Option(
             names = { "-l", "--log" },
-            description = "The log file of the Dejagnu run.",
-            required = true
+            description = """
+                The log file of the Dejagnu run, '-' to read it from the standard input.
+                Gzip-compressed logs are decompressed automatically."""
         )
         Path logFile;
 
         @Option(
             names = { "-n", "--name" },
-            description = "The unique name for the produced result.",
-            required = true
+            description = "The unique name for the produced result."
         )
         String testName;
 
+        @Option(
+            names = { "--logs" },
+            paramLabel = "<glob|dir>",
+            description = """
+                Log files, directories containing *.log files, or glob patterns matching log files.
+                Produces one result per log file. Can be given multiple times."""
+        )
+        List<String> logs;
+
+        @Option(
+            names = { "--name-pattern" },
+            defaultValue = "{name}",
+            description = """
+                The result name for each log file found via --logs.
+                {name} is replaced by the file name without extension, {parent} by the name of the containing \
+                directory."""
+        )
+        String namePattern;
+
+        @Option(
+            names = { "-t", "--threads" },
+            defaultValue = "0",
+            description = """
+                The maximum number of log files found via --logs that are parsed concurrently.
+                Directories given to --logs are searched with the same number of threads.
+                Uses one thread per available processor if zero."""
+        )
+        int threads;
+
+        @Option(
+            names = { "--parallel-scan" },
+            arity = "0..1",
+            fallbackValue = "0",
+            paramLabel = "<threads>",
+            description = """
+                Scans each log file concurrently in chunks via memory mapping instead of reading it as a stream.
+                Speeds up the parsing of huge log files. Uses one thread per available processor if no number is \
+                given."""
+        )
+        Integer scanThreads;
+
+        @Option(
+            names = { "-f", "--follow" },
+            description = """
+                Parses the log files while they are still being written.
+                Finishes each log once runtest has completed, once a summary follows the termination of the test run, \
+                or once the idle timeout has expired.
+                Compressed log files that already exist are read as a whole, others cannot be followed."""
+        )
+        boolean follow;
+
+        @Option(
+            names = { "--idle-timeout" },
+            paramLabel = "<seconds>",
+            defaultValue = "300",
+            description = "Stops following a log file that has not grown for this many seconds."
+        )
+        long idleTimeout;
+
+        @Option(
+            names = { "--summary-grace" },
+            paramLabel = "<seconds>",
+            description = """
+                Also finishes a followed log file that has not grown for this many seconds after a summary.
+                Useful if the test run may be killed without a termination notice before runtest has completed.
+                By default, only the idle timeout applies."""
+        )
+        Long summaryGrace;
+
+        @Option(
+            names = { "--split-test-cases" },
+            description = """
+                Produces an additional result for each test case containing only its own output.
+                The results are named after the log result and the test case, e.g. <name>-<test case>."""
+        )
+        boolean splitTestCases;
+
+        @Option(
+            names = { "--max-test-cases" },
+            paramLabel = "<count>",
+            defaultValue = "100",
+            description = """
+                The maximum number of test cases producing an additional result with --split-test-cases.
+                Further test cases are only counted in the result of the log."""
+        )
+        int maxTestCases;
+
+        @Option(
+            names = { "--rewrite" },
+            split = ",",
+            paramLabel = "<rewriter>",
+            defaultValue = "STACK_TRACES",
+            description = """
+                Built-in rewriting applied in this order to each line of the messages.
+                Valid values: ${COMPLETION-CANDIDATES}."""
+        )
+        List<BuiltInRewriter> builtInRewriters;
+
+        @Option(
+            names = { "--replace" },
+            paramLabel = "<search=replacement>",
+            description = """
+                Replaces all occurrences of a literal text in each line of the messages.
+                Applied in the given order after the built-in rewriting. Can be given multiple times."""
+        )
+        List<String> replacements;
+
+        @Option(
+            names = { "--compact-repetitions" },
+            description = """
+                Folds lines or short cycles of lines that are repeated many times in a row into a single line \
+                stating the number of repetitions. Lines that only differ in numbers, e.g. counters, addresses, or \
+                timestamps, count as repetitions of the first one. Disables the parallel scan."""
+        )
+        boolean compactRepetitions;
+
+        private final List<LineRewriter> rewriters = new ArrayList<>();
+
+        @Override
+        protected void validateParams() throws ParameterException {
+            collectRewriters();
+
+            validateLimits();
+            if (follow && scanThreads != null) {
+                throw new ParameterException(
+                    spec.commandLine(), "A log file that is still being written cannot be scanned concurrently."
+                );
+            }
+            if (logs == null && (logFile == null || testName == null)) {
+                throw new ParameterException(
+                    spec.commandLine(), "Either a log file and a name or a batch of logs via --logs is required."
+                );
+            }
+            if (logs != null && (logFile != null || testName != null)) {
+                throw new ParameterException(
+                    spec.commandLine(), "A single log file and name cannot be combined with --logs."
+                );
+            }
+        }
+
+        private void validateLimits() throws ParameterException {
+            if (maxTestCases < 0) {
+                throw new ParameterException(
+                    spec.commandLine(), "The maximum number of test cases must not be negative."
+                );
+            }
+            if (summaryGrace != null && summaryGrace <= 0) {
+                throw new ParameterException(spec.commandLine(), "The summary grace period must be positive.");
+            }
+        }
+
+        private void collectRewriters() throws ParameterException {
+            rewriters.clear();
+            rewriters.addAll(builtInRewriters);
+            for (final String replacement : replacements == null ? List.<String>of() : replacements) {
+                try {
+                    rewriters.add(LiteralRewriter.parse(replacement));
+                }
+                catch (IllegalArgumentException e) {
+                    throw new ParameterException(spec.commandLine(), e.getMessage(), e, null, replacement);
+                }
+            }
+        }
+
         @Override
         protected Checker buildChecker() throws Exception {
-            return new DejagnuLogChecker(logFile, testName);
+            return new DejagnuLogChecker(logFile, testName, checkerOptions());
+        }
+
+        @Override
+        protected List<Checker> buildCheckers() throws Exception {
+            if (logs == null) {
+                return super.buildCheckers();
+            }
+
+            final List<Checker> checkers = new ArrayList<>();
+            final Set<String> names = new HashSet<>();
+            for (final Path log : findLogFiles()) {
+                final String name = resultName(log);
+                if (!names.add(name)) {
+                    throw new ParameterException(
+                        spec.commandLine(),
+                        String.format("The name pattern produces the result name '%s' more than once.", name)
+                    );
+                }
+                checkers.add(new DejagnuLogChecker(log, name, checkerOptions()));
+            }
+            return checkers;
+        }
+
+        @Override
+        protected int parallelism() {
+            return ParallelTasks.resolveParallelism(threads);
+        }
+
+        private DejagnuLogChecker.Options checkerOptions() {
+            return new DejagnuLogChecker.Options(
+                scanThreads == null ? 0 : ParallelTasks.resolveParallelism(scanThreads),
+                follow ? Optional.of(Duration.ofSeconds(idleTimeout)) : Optional.empty(),
+                Optional.ofNullable(summaryGrace).map(Duration::ofSeconds),
+                splitTestCases,
+                maxTestCases,
+                List.copyOf(rewriters),
+                compactRepetitions
+            );
+        }
+
+        private Set<Path> findLogFiles() throws IOException {
+            final Set<Path> logFiles = new LinkedHashSet<>();
+            for (final String log : logs) {
+                if (FileGlobs.isPattern(log)) {
+                    logFiles.addAll(FileGlobs.expand(log));
+                }
+                else if (Files.isDirectory(Path.of(log))) {
+                    final FileWalker walker = new FileWalker(
+                        List.of(LOG_FILE_EXTENSION), List.of(), Set.of(), parallelism()
+                    );
+                    logFiles.addAll(parent.fileIndex.files(Path.of(log), walker));
+                }
+                else {
+                    // missing log files still produce a result
+                    logFiles.add(Path.of(log));
+                }
+            }
+            return logFiles;
+        }
+
+        private String resultName(final Path log) {
+            final String fileName = log.getFileName().toString();
+            final String extension = "." + LOG_FILE_EXTENSION;
+            final String name = fileName.endsWith(extension)
+                ? fileName.substring(0, fileName.length() - extension.length())
+                : fileName;
+            final Path parentDirectory = log.toAbsolutePath().getParent().getFileName();
+
+            return namePattern
+                .replace("{name}", name)
+                .replace("{parent}", parentDirectory == null ? "" : parentDirectory.toString());
         }
     }
 
@@ -172,9 +525,29 @@ public final class Main implements Runnable {
         )
         Path searchPath;
 
+        @Option(
+            names = { "-t", "--threads" },
+            defaultValue = "0",
+            description = """
+                The maximum number of directories that are searched and classes that are analysed concurrently.
+                Uses one thread per available processor if zero."""
+        )
+        int threads;
+
+        @Option(
+            names = { "--engine" },
+            defaultValue = "REFLECTION",
+            description = """
+                How the main methods are found: by loading the classes or by parsing the class files without \
+                loading them. Valid values: ${COMPLETION-CANDIDATES}."""
+        )
+        MainMethodChecker.Engine engine;
+
         @Override
         protected Checker buildChecker() {
-            return new MainMethodChecker(searchPath);
+            return new MainMethodChecker(
+                searchPath, parent.fileIndex, ParallelTasks.resolveParallelism(threads), engine
+            );
         }
     }
 
@@ -185,11 +558,58 @@ public final class Main implements Runnable {
     static class FileExistsCheckerSubcommand extends CheckerSubcommand {
 
         @Parameters(description = "Files that should exist an not be empty.")
-        List<Path> files;
+        List<Path> files = new ArrayList<>();
+
+        @Option(
+            names = { "--files-from" },
+            paramLabel = "<file|->",
+            description = """
+                Additionally checks the files listed in this file, or in the standard input if '-'. \
+                The paths are separated by line breaks or NUL characters."""
+        )
+        String filesFrom;
+
+        @Option(
+            names = { "-g", "--glob" },
+            paramLabel = "<pattern[=min..max]>",
+            description = """
+                Checks the files matching this glob pattern, e.g. 'src/**/*Test.java=1..'. Either bound of the \
+                number of matches may be left out, a single number requires exactly this many matches. \
+                Without a number, at least one file has to match. Can be given multiple times."""
+        )
+        List<String> globPatterns = new ArrayList<>();
+
+        @Option(
+            names = { "-t", "--threads" },
+            defaultValue = "0",
+            description = """
+                The maximum number of files that are checked concurrently.
+                Uses one thread per available processor if zero."""
+        )
+        int threads;
+
+        private final List<GlobRequirement> globs = new ArrayList<>();
 
         @Override
-        protected Checker buildChecker() {
-            return new FileExistsChecker(files);
+        protected void validateParams() throws ParameterException {
+            globs.clear();
+            for (final String glob : globPatterns) {
+                try {
+                    globs.add(GlobRequirement.parse(glob));
+                }
+                catch (IllegalArgumentException e) {
+                    throw new ParameterException(spec.commandLine(), e.getMessage(), e, null, glob);
+                }
+            }
+        }
+
+        @Override
+        protected Checker buildChecker() throws IOException {
+            final List<Path> toCheck = new ArrayList<>(files);
+            if (filesFrom != null) {
+                toCheck.addAll(FileList.read(filesFrom));
+            }
+            return new FileExistsChecker(toCheck, globs, ParallelTasks.resolveParallelism(threads));
         }
     }
 
@@ -208,10 +628,30 @@ public final class Main implements Runnable {
 
         @Option(
             names = { "-e", "--ext" },
-            description = "Only checks files with the given file extension.",
+            split = ",",
+            paramLabel = "<extension>",
+            description = "Only checks files with one of the given file extensions.",
             defaultValue = "java"
         )
-        String fileExtension;
+        List<String> fileExtensions;
+
+        @Option(
+            names = { "--include" },
+            paramLabel = "<glob>",
+            description = """
+                Only checks files matching one of these glob patterns relative to the search path, \
+                e.g. 'src/**'. Can be given multiple times."""
+        )
+        List<String> includes = new ArrayList<>();
+
+        @Option(
+            names = { "--exclude-dir" },
+            split = ",",
+            paramLabel = "<name>",
+            description = "Skips all directories with these names.",
+            defaultValue = ".git,build,node_modules,target"
+        )
+        List<String> excludedDirectories;
 
         @Option(
             names = { "-s", "--search-path" },
@@ -220,10 +660,87 @@ public final class Main implements Runnable {
         )
         Path directory;
 
+        @Option(
+            names = { "--files-from" },
+            paramLabel = "<file|->",
+            description = """
+                Only checks the files listed in this file, or in the standard input if '-', instead of searching \
+                the search path. The paths are separated by line breaks or NUL characters. Listed files are skipped \
+                like the ones in the search path, e.g. if their extension does not match."""
+        )
+        String filesFrom;
+
+        @Option(
+            names = { "--tracked-only" },
+            description = """
+                Only checks the files tracked in the git repository containing the search path. \
+                They are read from the index of the repository instead of searching the search path."""
+        )
+        boolean trackedOnly;
+
+        @Option(
+            names = { "-t", "--threads" },
+            defaultValue = "0",
+            description = """
+                The maximum number of directories that are searched and files that are checked concurrently.
+                Uses one thread per available processor if zero."""
+        )
+        int threads;
+
+        @Option(
+            names = { "--max-violations-per-file" },
+            defaultValue = "100",
+            description = "Lists at most this many too long lines per file, further ones are only counted."
+        )
+        int maxViolationsPerFile;
+
+        @Option(
+            names = { "--max-violations" },
+            defaultValue = "1000",
+            description = "Lists at most this many too long lines in total, further ones are only counted."
+        )
+        int maxViolations;
+
+        @Option(
+            names = { "--group-consecutive-lines" },
+            description = "Lists too long consecutive lines as a single range with their maximum length."
+        )
+        boolean groupConsecutiveLines;
+
+        @Override
+        protected void validateParams() throws ParameterException {
+            if (maxViolationsPerFile < 0 || maxViolations < 0) {
+                throw new ParameterException(
+                    spec.commandLine(), "The maximum numbers of violations must not be negative."
+                );
+            }
+            if (trackedOnly && filesFrom != null) {
+                throw new ParameterException(
+                    spec.commandLine(), "Either the tracked files or the files from a list can be checked."
+                );
+            }
+        }
+
         @Override
         protected Checker buildChecker() throws Exception {
-            final Stream<Path> files = FilteredFilesStream.files(directory, fileExtension);
-            return new LineLengthChecker(directory, files, lineLength);
+            final int parallelism = ParallelTasks.resolveParallelism(threads);
+            final FileWalker walker = new FileWalker(fileExtensions, includes, excludedDirectories, parallelism);
+            final List<Path> files;
+            if (filesFrom != null) {
+                files = walker.select(directory, FileList.read(filesFrom));
+            }
+            else if (trackedOnly) {
+                files = walker.select(
+                    directory, GitIndex.trackedFiles(directory).stream().map(FileIndex.Entry::path).toList()
+                );
+            }
+            else {
+                files = parent.fileIndex.files(directory, walker);
+            }
+            final LineLengthChecker.Options options = new LineLengthChecker.Options(
+                parallelism, maxViolationsPerFile, maxViolations, groupConsecutiveLines
+            );
+            return new LineLengthChecker(directory, files, lineLength, options);
         }
     }
 
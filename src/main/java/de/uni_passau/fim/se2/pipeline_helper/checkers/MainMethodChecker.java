@@ -11,32 +11,58 @@ import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import de.uni_passau.fim.se2.pipeline_helper.helpers.FilteredFilesStream;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.main_method.ClassHierarchy;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.main_method.MainMethodCandidates;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileIndex;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileWalker;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.ParallelTasks;
 import de.uni_passau.fim.se2.pipeline_helper.model.Checker;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
 /**
  * Checks that there is exactly one file with a Java main method
+ * <p>
+ * Only the classes that declare a method called main or inherit from such a class are analysed.
  */
 public class MainMethodChecker implements Checker {
 
     private static final String CHECKER_NAME = "MainMethodChecker";
 
     private final Path classpath;
+    private final FileIndex fileIndex;
+    private final int parallelism;
+    private final Engine engine;
 
-    private record MainMethodInfo(Class<?> cls, int mainMethodCount) {
+    /**
+     * The ways to determine the main methods of the classes.
+     */
+    public enum Engine {
+        /**
+         * Loads the classes and inspects them via reflection. Classes whose dependencies are missing are skipped.
+         */
+        REFLECTION,
+
+        /**
+         * Parses the class files without loading any class.
+         */
+        CLASS_FILE
+    }
+
+    private record MainMethodInfo(String name, int mainMethodCount) {
 
         @Override
         public String toString() {
-            String name = cls.getName();
             if (mainMethodCount == 1) {
                 return name;
             }
@@ -47,7 +73,47 @@ public class MainMethodChecker implements Checker {
     }
 
     public MainMethodChecker(final Path classpath) {
+        this(classpath, 1);
+    }
+
+    /**
+     * Creates a checker that searches and analyses the class files concurrently.
+     *
+     * @param classpath   the directory containing the class files.
+     * @param parallelism the maximum number of directories searched and classes analysed concurrently.
+     */
+    public MainMethodChecker(final Path classpath, final int parallelism) {
+        this(classpath, new FileIndex(), parallelism);
+    }
+
+    /**
+     * Creates a checker that takes the class files from an index shared with other checkers.
+     *
+     * @param classpath   the directory containing the class files.
+     * @param fileIndex   the index that is queried for the class files.
+     * @param parallelism the maximum number of classes analysed concurrently, and of directories searched
+     *                    concurrently if the index has not walked the classpath yet.
+     */
+    public MainMethodChecker(final Path classpath, final FileIndex fileIndex, final int parallelism) {
+        this(classpath, fileIndex, parallelism, Engine.REFLECTION);
+    }
+
+    /**
+     * Creates a checker that takes the class files from an index shared with other checkers.
+     *
+     * @param classpath   the directory containing the class files.
+     * @param fileIndex   the index that is queried for the class files.
+     * @param parallelism the maximum number of classes analysed concurrently, and of directories searched
+     *                    concurrently if the index has not walked the classpath yet.
+     * @param engine      the way the main methods are determined.
+     */
+    public MainMethodChecker(
+        final Path classpath, final FileIndex fileIndex, final int parallelism, final Engine engine
+    ) {
         this.classpath = classpath;
+        this.fileIndex = fileIndex;
+        this.parallelism = parallelism;
+        this.engine = engine;
     }
 
     @Override
@@ -88,14 +154,51 @@ public class MainMethodChecker implements Checker {
     }
 
     private List<MainMethodInfo> findMainMethods() throws IOException {
+        final FileWalker walker = new FileWalker(List.of("class"), List.of(), Set.of(), parallelism);
+        // sorted, so that the classes are always reported in the same order
+        final List<String> classNames = new MainMethodCandidates(classpath).filter(
+            fileIndex.files(classpath, walker).stream()
+                .map(this::getClassName)
+                .sorted()
+                .toList(),
+            parallelism
+        );
+
+        final List<MainMethodInfo> mainMethodInfos;
+        if (engine == Engine.CLASS_FILE) {
+            mainMethodInfos = parseClassFiles(classNames);
+        }
+        else {
+            mainMethodInfos = loadClasses(classNames);
+        }
+        return mainMethodInfos.stream()
+            .filter(mainMethodInfo -> mainMethodInfo.mainMethodCount > 0)
+            .toList();
+    }
+
+    private List<MainMethodInfo> parseClassFiles(final List<String> classNames) throws IOException {
+        final ClassHierarchy hierarchy = new ClassHierarchy(classpath);
+        final List<OptionalInt> mainMethodCounts = ParallelTasks.map(
+            classNames, parallelism, hierarchy::countMainMethods
+        );
+
+        final List<MainMethodInfo> mainMethodInfos = new ArrayList<>(classNames.size());
+        for (int i = 0; i < classNames.size(); ++i) {
+            if (mainMethodCounts.get(i).isPresent()) {
+                mainMethodInfos.add(new MainMethodInfo(classNames.get(i), mainMethodCounts.get(i).getAsInt()));
+            }
+        }
+        return mainMethodInfos;
+    }
+
+    private List<MainMethodInfo> loadClasses(final List<String> classNames) throws IOException {
         final URL classPathUrl = classpath.toFile().toURI().toURL();
+        // URLClassLoader is parallel capable, so independent classes are loaded concurrently
         try (URLClassLoader cl = new URLClassLoader(new URL[] { classPathUrl })) {
-            return FilteredFilesStream.files(classpath, "class")
-                .map(this::getClassName)
-                .map(className -> loadClass(cl, className))
+            return ParallelTasks.map(
+                classNames, parallelism, className -> loadClass(cl, className).map(this::getMainMethodInfo)
+            ).stream()
                 .flatMap(Optional::stream)
-                .map(this::getMainMethodInfo)
-                .filter(mainMethodInfo -> mainMethodInfo.mainMethodCount > 0)
                 .toList();
         }
     }
@@ -121,7 +224,7 @@ public class MainMethodChecker implements Checker {
     private MainMethodInfo getMainMethodInfo(final Class<?> cls) {
         List<Method> mainMethods = getMethodsWithInherited(cls).stream()
             .filter(item -> isMainMethod(cls, item)).toList();
-        return new MainMethodInfo(cls, mainMethods.size());
+        return new MainMethodInfo(cls.getName(), mainMethods.size());
     }
 
     private List<Method> getMethodsWithInherited(Class<?> cls) {
@@ -0,0 +1,146 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * Commonly needed rewriting of Dejagnu log lines.
+ */
+public enum BuiltInRewriter implements LineRewriter {
+
+    /**
+     * Indents stack trace lines with spaces instead of a tab.
+     * <p>
+     * Artemis postprocessing would otherwise remove the stack trace and everything following it by matching the start
+     * of the line.
+     */
+    STACK_TRACES {
+        @Override
+        public String rewrite(final String line) {
+            return line.startsWith(TAB_AT) ? SPACES_AT + line.substring(TAB_AT.length()) : line;
+        }
+    },
+
+    /**
+     * Removes ANSI escape sequences, e.g. colours and cursor movements.
+     */
+    ANSI_ESCAPES {
+        @Override
+        public String rewrite(final String line) {
+            int escape = line.indexOf(ESCAPE);
+            if (escape < 0) {
+                return line;
+            }
+
+            final StringBuilder rewritten = new StringBuilder(line.length());
+            int start = 0;
+            while (escape >= 0) {
+                rewritten.append(line, start, escape);
+                start = skipEscapeSequence(line, escape);
+                escape = line.indexOf(ESCAPE, start);
+            }
+            rewritten.append(line, start, line.length());
+
+            return rewritten.toString();
+        }
+    },
+
+    /**
+     * Turns absolute paths within the working directory into relative ones.
+     */
+    SANDBOX_PATHS {
+        @Override
+        public String rewrite(final String line) {
+            return line.replace(WORKING_DIRECTORY, "");
+        }
+    },
+
+    /**
+     * Removes control characters except for tabs.
+     */
+    CONTROL_CHARACTERS {
+        @Override
+        public String rewrite(final String line) {
+            int first = 0;
+            while (first < line.length() && !isRemovedControlCharacter(line.charAt(first))) {
+                first += 1;
+            }
+            if (first == line.length()) {
+                return line;
+            }
+
+            final StringBuilder rewritten = new StringBuilder(line.length());
+            rewritten.append(line, 0, first);
+            for (int i = first + 1; i < line.length(); ++i) {
+                final char c = line.charAt(i);
+                if (!isRemovedControlCharacter(c)) {
+                    rewritten.append(c);
+                }
+            }
+
+            return rewritten.toString();
+        }
+    };
+
+    private static final String TAB_AT = "\tat ";
+    private static final String SPACES_AT = "    at ";
+    private static final char ESCAPE = '\u001b';
+    private static final char BELL = '\u0007';
+    private static final String WORKING_DIRECTORY = Path.of("").toAbsolutePath() + File.separator;
+
+    private static boolean isRemovedControlCharacter(final char c) {
+        return c != '\t' && Character.isISOControl(c);
+    }
+
+    /**
+     * Finds the end of an escape sequence.
+     *
+     * @param line   a line containing an escape sequence.
+     * @param escape the position of the escape character starting the sequence.
+     * @return the position after the sequence.
+     */
+    private static int skipEscapeSequence(final String line, final int escape) {
+        if (escape + 1 >= line.length()) {
+            return line.length();
+        }
+
+        final char type = line.charAt(escape + 1);
+        int position = escape + 2;
+        if (type == '[') {
+            // control sequence: parameter and intermediate bytes followed by a single final byte
+            while (position < line.length() && line.charAt(position) >= 0x20 && line.charAt(position) <= 0x3F) {
+                position += 1;
+            }
+            if (position < line.length() && line.charAt(position) >= 0x40 && line.charAt(position) <= 0x7E) {
+                position += 1;
+            }
+        }
+        else if (type == ']') {
+            // operating system command: terminated by a bell or a string terminator
+            while (position < line.length()) {
+                final char c = line.charAt(position);
+                if (c == BELL) {
+                    return position + 1;
+                }
+                else if (c == ESCAPE && position + 1 < line.length() && line.charAt(position + 1) == '\\') {
+                    return position + 2;
+                }
+                position += 1;
+            }
+        }
+        else {
+            // other sequences: intermediate bytes followed by a single final byte
+            position = escape + 1;
+            while (position < line.length() && line.charAt(position) >= 0x20 && line.charAt(position) <= 0x2F) {
+                position += 1;
+            }
+            position = Math.min(position + 1, line.length());
+        }
+
+        return position;
+    }
+}
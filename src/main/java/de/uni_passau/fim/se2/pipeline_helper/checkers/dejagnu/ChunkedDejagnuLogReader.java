@@ -0,0 +1,335 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+/**
+ * Extracts the relevant part of a huge Dejagnu log by scanning parts of the memory-mapped file concurrently.
+ * <p>
+ * The file is split into chunks at line boundaries. The chunks are scanned for markers on a fork-join pool without
+ * decoding any line. Merging the chunk results yields the first spawned program, the last summary, and the flags of the
+ * whole log. Afterwards, only the lines that end up in the message are decoded: the head is read forwards from the
+ * first spawned program, the tail backwards from the last summary. The result is the same as the one of the
+ * {@link DejagnuLogParser}.
+ */
+class ChunkedDejagnuLogReader {
+
+    private static final long DEFAULT_CHUNK_SIZE = 16L * 1024 * 1024;
+
+    private final MarkerMatcher matcher = DejagnuMarker.MATCHER;
+    private final int parallelism;
+    private final long chunkSize;
+    private final int headLength;
+    private final int tailLength;
+    private final LineRewriter[] rewriters;
+
+    /**
+     * Creates a reader with the same window sizes as the default {@link DejagnuLogParser}.
+     *
+     * @param parallelism the number of threads scanning the file.
+     * @param rewriters   applied in order to each line that becomes part of the message.
+     */
+    ChunkedDejagnuLogReader(final int parallelism, final List<LineRewriter> rewriters) {
+        this(parallelism, DEFAULT_CHUNK_SIZE, DejagnuLogParser.DEFAULT_WINDOW_LENGTH,
+            DejagnuLogParser.DEFAULT_WINDOW_LENGTH, rewriters);
+    }
+
+    /**
+     * Creates a reader with custom chunk and window sizes.
+     *
+     * @param parallelism the number of threads scanning the file.
+     * @param chunkSize   the approximate number of bytes scanned at once.
+     * @param headLength  the maximum number of characters kept from the start of the relevant part.
+     * @param tailLength  the maximum number of characters kept from the end of the relevant part.
+     * @param rewriters   applied in order to each line that becomes part of the message.
+     */
+    ChunkedDejagnuLogReader(
+        final int parallelism, final long chunkSize, final int headLength, final int tailLength,
+        final List<LineRewriter> rewriters
+    ) {
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.headLength = headLength;
+        this.tailLength = tailLength;
+        this.rewriters = rewriters.toArray(LineRewriter[]::new);
+    }
+
+    /**
+     * Extracts the relevant part of a log file.
+     *
+     * @param logFile the Dejagnu log.
+     * @return the extracted log.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the log contains no summary after the first spawned program.
+     */
+    DejagnuLog read(final Path logFile) throws IOException, IllegalArgumentException {
+        final MappedLogFile file;
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            file = new MappedLogFile(channel);
+        }
+
+        final ChunkSummary summary = scan(file);
+
+        final boolean foundStart = summary.spawnOffset() >= 0;
+        if (!foundStart || summary.summaryOffset() <= summary.spawnOffset()) {
+            // a summary in the line of the first spawned program does not end the log
+            throw new IllegalArgumentException("Missing start or end of the Dejagnu log.");
+        }
+
+        // the line of the first spawned program is not checked for the other markers
+        final DejagnuMarker spawnCounted = countedMarker(summary.spawnMarkers());
+        final boolean hasBeenTerminated = summary.terminated()
+            - (spawnCounted == DejagnuMarker.TERMINATED ? 1 : 0) > 0;
+        final boolean hasPassingTests = summary.passes() - (spawnCounted == DejagnuMarker.PASSES ? 1 : 0) > 0;
+        final boolean hasFailures = summary.failures() - (spawnCounted == DejagnuMarker.FAILURES ? 1 : 0) > 0;
+
+        final String log = extract(
+            file, summary.spawnOffset(), summary.summaryOffset(), summary.summaryLine() - summary.spawnLine()
+        );
+        return new DejagnuLog(log, hasFailures, hasPassingTests, hasBeenTerminated, List.of(), 0, 0);
+    }
+
+    private ChunkSummary scan(final MappedLogFile file) {
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        for (long position = chunkSize; position < file.size(); position += chunkSize) {
+            final long lineStart = file.alignToLineStart(position);
+            if (lineStart > boundaries.get(boundaries.size() - 1) && lineStart < file.size()) {
+                boundaries.add(lineStart);
+            }
+        }
+        boundaries.add(file.size());
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new ScanTask(file, boundaries, 0, boundaries.size() - 1));
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Finds the marker a line counts for, following the precedence of {@link DejagnuLogParser}.
+     *
+     * @param markers the markers of a line that is not the first spawned program.
+     * @return the marker the flags of the log are derived from, or null.
+     */
+    private static DejagnuMarker countedMarker(final int markers) {
+        if (DejagnuMarker.SUMMARY.isIn(markers)) {
+            return null;
+        }
+        else if (DejagnuMarker.TERMINATED.isIn(markers)) {
+            return DejagnuMarker.TERMINATED;
+        }
+        else if (DejagnuMarker.PASSES.isIn(markers)) {
+            return DejagnuMarker.PASSES;
+        }
+        else if (DejagnuMarker.FAILURES.isIn(markers)) {
+            return DejagnuMarker.FAILURES;
+        }
+        return null;
+    }
+
+    private ChunkSummary scanChunk(final MappedLogFile file, final long start, final long end) {
+        long lines = 0;
+        long spawnOffset = -1;
+        long spawnLine = -1;
+        int spawnMarkers = 0;
+        long summaryOffset = -1;
+        long summaryLine = -1;
+        final long[] counts = new long[DejagnuMarker.values().length];
+
+        int state = matcher.next(matcher.initialState(), (byte) '\n');
+        int lineMarkers = 0;
+        long lineStart = start;
+
+        long position = start;
+        while (position < end) {
+            final byte b = file.get(position);
+            final boolean lastByte = position + 1 == end;
+
+            if (b == '\n' || b == '\r' || lastByte) {
+                if (b != '\n' && b != '\r') {
+                    // the last line of the file has no terminator
+                    state = matcher.next(state, b);
+                    lineMarkers |= matcher.markers(state);
+                }
+                state = matcher.next(state, (byte) '\n');
+                lineMarkers |= matcher.markers(state);
+
+                if (DejagnuMarker.SPAWN.isIn(lineMarkers) && spawnOffset < 0) {
+                    spawnOffset = lineStart;
+                    spawnLine = lines;
+                    spawnMarkers = lineMarkers;
+                }
+                if (DejagnuMarker.SUMMARY.isIn(lineMarkers)) {
+                    summaryOffset = lineStart;
+                    summaryLine = lines;
+                }
+                final DejagnuMarker counted = countedMarker(lineMarkers);
+                if (counted != null) {
+                    counts[counted.ordinal()] += 1;
+                }
+
+                lines += 1;
+                lineMarkers = 0;
+                position = b == '\n' || b == '\r' ? file.skipLineTerminator(position) : end;
+                lineStart = position;
+            }
+            else {
+                state = matcher.next(state, b);
+                lineMarkers |= matcher.markers(state);
+                position += 1;
+            }
+        }
+
+        return new ChunkSummary(
+            lines, spawnOffset, spawnLine, spawnMarkers, summaryOffset, summaryLine,
+            counts[DejagnuMarker.TERMINATED.ordinal()], counts[DejagnuMarker.PASSES.ordinal()],
+            counts[DejagnuMarker.FAILURES.ordinal()]
+        );
+    }
+
+    /**
+     * Builds the message from the lines of the relevant part without decoding the omitted lines.
+     *
+     * @param file  the log file.
+     * @param start the start of the first line of the relevant part.
+     * @param end   the start of the last summary.
+     * @param lines the number of lines in the relevant part.
+     * @return the extracted log.
+     */
+    private String extract(final MappedLogFile file, final long start, final long end, final long lines) {
+        final HeadBuffer head = new HeadBuffer(headLength);
+
+        long headLines = 0;
+        long position = start;
+        while (headLines < lines) {
+            long terminator = position;
+            while (!file.isLineTerminator(terminator)) {
+                terminator += 1;
+            }
+
+            if (!head.add(readLine(file, position, terminator))) {
+                break;
+            }
+            headLines += 1;
+            position = file.skipLineTerminator(terminator);
+        }
+        head.commit();
+
+        final TailBuffer tail = new TailBuffer(tailLength);
+        long tailLines = 0;
+        position = end;
+        while (headLines + tailLines < lines) {
+            // the relevant part ends with a line terminator right before the summary
+            final long terminator = file.get(position - 1) == '\n' && position - 2 >= start
+                && file.get(position - 2) == '\r' ? position - 2 : position - 1;
+            long lineStart = terminator;
+            while (lineStart > start && !file.isLineTerminator(lineStart - 1)) {
+                lineStart -= 1;
+            }
+
+            if (!tail.addFirst(readLine(file, lineStart, terminator))) {
+                break;
+            }
+            tailLines += 1;
+            position = lineStart;
+        }
+
+        final StringBuilder log = new StringBuilder();
+        head.appendCommittedTo(log);
+        return LogWindow.build(log, lines - headLines - tailLines, tail);
+    }
+
+    private String readLine(final MappedLogFile file, final long start, final long end) {
+        final long keptEnd = Math.min(end, start + DejagnuLogScanner.DEFAULT_MAX_LINE_LENGTH);
+        return DejagnuLogParser.rewrite(rewriters, file.decode(start, keptEnd));
+    }
+
+    /**
+     * The markers found in a part of the log.
+     *
+     * @param lines         the number of lines in the part.
+     * @param spawnOffset   the start of the first line containing a spawned program, or -1.
+     * @param spawnLine     the index of that line within the part.
+     * @param spawnMarkers  all markers found in that line.
+     * @param summaryOffset the start of the last summary line, or -1.
+     * @param summaryLine   the index of that line within the part.
+     * @param terminated    the number of lines reporting the termination of the test run.
+     * @param passes        the number of lines reporting passed tests.
+     * @param failures      the number of lines reporting failures.
+     */
+    private record ChunkSummary(
+        long lines, long spawnOffset, long spawnLine, int spawnMarkers, long summaryOffset, long summaryLine,
+        long terminated, long passes, long failures
+    ) {
+
+        /**
+         * Combines the summaries of two adjacent parts.
+         *
+         * @param next the summary of the part directly following this part.
+         * @return the summary of both parts.
+         */
+        ChunkSummary followedBy(final ChunkSummary next) {
+            final boolean spawnInNext = spawnOffset < 0 && next.spawnOffset >= 0;
+            final boolean summaryInNext = next.summaryOffset >= 0;
+
+            return new ChunkSummary(
+                lines + next.lines,
+                spawnInNext ? next.spawnOffset : spawnOffset,
+                spawnInNext ? lines + next.spawnLine : spawnLine,
+                spawnInNext ? next.spawnMarkers : spawnMarkers,
+                summaryInNext ? next.summaryOffset : summaryOffset,
+                summaryInNext ? lines + next.summaryLine : summaryLine,
+                terminated + next.terminated,
+                passes + next.passes,
+                failures + next.failures
+            );
+        }
+    }
+
+    /**
+     * Scans a range of chunks by splitting it in halves until a single chunk remains.
+     */
+    private final class ScanTask extends RecursiveTask<ChunkSummary> {
+
+        private final MappedLogFile file;
+        private final List<Long> boundaries;
+        private final int first;
+        private final int last;
+
+        ScanTask(final MappedLogFile file, final List<Long> boundaries, final int first, final int last) {
+            this.file = file;
+            this.boundaries = boundaries;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected ChunkSummary compute() {
+            if (last - first <= 1) {
+                return scanChunk(file, boundaries.get(first), boundaries.get(last));
+            }
+
+            final int middle = (first + last) >>> 1;
+            final ScanTask left = new ScanTask(file, boundaries, first, middle);
+            left.fork();
+            final ChunkSummary right = new ScanTask(file, boundaries, middle, last).compute();
+            return left.join().followedBy(right);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+// SPDX-FileCopyrightText: 2022 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.TestCaseSplitter.TestCase;
+import de.uni_passau.fim.se2.pipeline_helper.model.Checker;
+import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
+import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
+
+/**
+ * Creates a {@link CheckerResult} from a Dejagnu log file.
+ * <p>
+ * Trims down the log file to only relevant parts. Detects failed tests and sets the success status in the result
+ * accordingly. The log file is parsed in a single pass while it is read, only lines that are part of the message are
+ * decoded. Only the start and the end of overly long logs are kept, so the memory usage and the message size do not
+ * depend on the size of the log file.
+ * <p>
+ * Huge log files can optionally be scanned concurrently via memory mapping, see {@link ChunkedDejagnuLogReader}. Logs
+ * that are still being written can be followed until the test run ends, see {@link DejagnuLogFollower}.
+ * <p>
+ * The log can be read from the standard input by passing {@code -} as log file. Gzip-compressed logs are decompressed
+ * while they are parsed.
+ * <p>
+ * Optionally, the log is split into test cases in the same pass, see {@link TestCaseSplitter}. Each test case then
+ * produces an additional result containing only its own output. Test cases beyond a configurable limit are only
+ * counted in the result of the whole test run.
+ * <p>
+ * Repetitions of lines or short cycles of lines, e.g. from infinite loops, can be folded into a single marker line,
+ * even if numbers such as loop counters differ between them, see {@link RepetitionCompactor}.
+ */
+public class DejagnuLogChecker implements Checker {
+
+    private static final String FILE_NOT_FOUND_MESSAGE = "Could not generate a report for this test. Maybe the test ran longer than expected and got aborted.";
+    private static final String TIMEOUT_MESSAGE = "The test took too long and got aborted. Check your code for possibly infinite loops or other long-running sections.";
+    private static final String TEST_CASES_MESSAGE = "%d of %d test cases passed.";
+    private static final String OMITTED_TEST_CASES_MESSAGE = "Only the first %d test cases are reported separately.";
+    private static final int MAX_LABEL_LENGTH = 64;
+
+    private final String testName;
+    private final Path logFile;
+    private final Options options;
+
+    /**
+     * Optional ways of reading the log file.
+     *
+     * @param scanThreads        the number of threads scanning parts of the memory-mapped log file. The log file is
+     *                           read sequentially as a stream if zero.
+     * @param followTimeout      if present, the log file is followed while it is being written until runtest has
+     *                           completed or until it has not grown for this long.
+     * @param summaryGrace       if present, a followed log file is also finished if it has not grown for this long
+     *                           after a summary.
+     * @param splitTestCases     if an additional result is produced for each test case. The log file is always read
+     *                           sequentially then.
+     * @param maxTestCases       the maximum number of test cases producing an additional result. Further test cases
+     *                           are only counted in the result of the whole test run.
+     * @param rewriters          applied in order to each line of the log that becomes part of a message.
+     * @param compactRepetitions if repeated lines are folded after they have been rewritten. The log file is always
+     *                           read sequentially then.
+     */
+    public record Options(
+        int scanThreads, Optional<Duration> followTimeout, Optional<Duration> summaryGrace, boolean splitTestCases,
+        int maxTestCases, List<LineRewriter> rewriters, boolean compactRepetitions
+    ) {
+
+        /**
+         * Reads the existing log file sequentially and produces a single result. Only stack traces are rewritten,
+         * repetitions are kept.
+         */
+        public static final Options DEFAULT = new Options(
+            0, Optional.empty(), Optional.empty(), false, TestCaseSplitter.DEFAULT_MAX_TEST_CASES,
+            List.of(BuiltInRewriter.STACK_TRACES), false
+        );
+    }
+
+    public DejagnuLogChecker(Path logFile, String testName) {
+        this(logFile, testName, Options.DEFAULT);
+    }
+
+    public DejagnuLogChecker(Path logFile, String testName, Options options) {
+        this.logFile = logFile;
+        this.testName = testName;
+        this.options = options;
+    }
+
+    @Override
+    public CheckerResult check() throws CheckerException {
+        return checkAll().get(0);
+    }
+
+    /**
+     * Parses the log file.
+     *
+     * @return the result of the whole test run, followed by one result per test case if enabled.
+     * @throws CheckerException if the log file cannot be read or is invalid.
+     */
+    @Override
+    public List<CheckerResult> checkAll() throws CheckerException {
+        final boolean fromStandardInput = DejagnuLogInput.isStandardInput(logFile);
+        if (!fromStandardInput && options.followTimeout().isEmpty() && !Files.exists(logFile)) {
+            return List.of(generateResultMissingFile());
+        }
+
+        final DejagnuLog extractedLog;
+        try {
+            final Optional<DejagnuLog> log = parseLog();
+            if (log.isEmpty()) {
+                return List.of(generateResultMissingFile());
+            }
+            extractedLog = log.get();
+        }
+        catch (IllegalArgumentException invalidLogException) {
+            throw new CheckerException(String.format("Invalid Dejagnu log file: %s", logFile));
+        }
+
+        final String message = buildCheckerMessage(extractedLog);
+        final boolean isSuccessful = extractedLog.hasPassingTests() && !extractedLog.hasFailures()
+            && !extractedLog.hasBeenTerminated();
+
+        final List<CheckerResult> results = new ArrayList<>();
+        results.add(new CheckerResult(testName, isSuccessful, message));
+        results.addAll(buildTestCaseResults(extractedLog.testCases()));
+        return results;
+    }
+
+    private Optional<DejagnuLog> parseLog() throws CheckerException, IllegalArgumentException {
+        try {
+            if (DejagnuLogInput.isStandardInput(logFile)) {
+                // the standard input is read until it is closed, so it is followed anyway
+                return Optional.of(streamStandardInput());
+            }
+            else if (options.followTimeout().isPresent() && !isExistingCompressedFile()) {
+                final DejagnuLogFollower follower = new DejagnuLogFollower(
+                    options.followTimeout().get(), options.summaryGrace()
+                );
+                return follower.follow(logFile, newParser());
+            }
+            else if (canScanConcurrently()) {
+                final ChunkedDejagnuLogReader reader = new ChunkedDejagnuLogReader(
+                    options.scanThreads(), options.rewriters()
+                );
+                return Optional.of(reader.read(logFile));
+            }
+            else {
+                return Optional.of(streamLog());
+            }
+        }
+        catch (IOException e) {
+            throw new CheckerException("Cannot read Dejagnu logfile", e);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CheckerException("Interrupted while following the Dejagnu logfile", e);
+        }
+    }
+
+    /**
+     * Checks if the log file has already been compressed. A compressed file is complete, so it is read as a whole
+     * instead of being followed.
+     *
+     * @return true if the log file exists and is gzip-compressed.
+     * @throws IOException if the log file cannot be read.
+     */
+    private boolean isExistingCompressedFile() throws IOException {
+        return Files.exists(logFile) && DejagnuLogInput.isCompressed(logFile);
+    }
+
+    /**
+     * Checks if the log file can be scanned in chunks.
+     * <p>
+     * Splitting and compaction depend on all preceding lines, they are only possible in a single pass.
+     *
+     * @return true if concurrent scanning is enabled and the log is neither split nor compacted nor compressed.
+     * @throws IOException if the log file cannot be read.
+     */
+    private boolean canScanConcurrently() throws IOException {
+        return options.scanThreads() > 0 && !options.splitTestCases() && !options.compactRepetitions()
+            && !DejagnuLogInput.isCompressed(logFile);
+    }
+
+    private DejagnuLogParser newParser() {
+        return new DejagnuLogParser(
+            options.rewriters(), options.splitTestCases(), options.maxTestCases(), options.compactRepetitions()
+        );
+    }
+
+    private DejagnuLog streamLog() throws IOException, IllegalArgumentException {
+        final DejagnuLogParser parser = newParser();
+
+        try (InputStream input = DejagnuLogInput.decompressIfNeeded(Files.newInputStream(logFile))) {
+            new DejagnuLogScanner(parser).scan(input);
+        }
+
+        return parser.finish();
+    }
+
+    private DejagnuLog streamStandardInput() throws IOException, IllegalArgumentException {
+        final DejagnuLogParser parser = newParser();
+
+        // not closed, the standard input belongs to the whole process
+        new DejagnuLogScanner(parser).scan(DejagnuLogInput.decompressIfNeeded(System.in));
+
+        return parser.finish();
+    }
+
+    private String buildCheckerMessage(final DejagnuLog log) {
+        final StringBuilder message = new StringBuilder();
+        if (log.hasBeenTerminated()) {
+            message.append(TIMEOUT_MESSAGE).append('\n');
+        }
+        if (options.splitTestCases()) {
+            message.append(TEST_CASES_MESSAGE.formatted(log.passedCount(), log.testCaseCount())).append('\n');
+            if (log.testCases().size() < log.testCaseCount()) {
+                message.append(OMITTED_TEST_CASES_MESSAGE.formatted(log.testCases().size())).append('\n');
+            }
+        }
+        message.append(log.log());
+
+        return message.toString().trim();
+    }
+
+    private List<CheckerResult> buildTestCaseResults(final List<TestCase> testCases) throws CheckerException {
+        final List<CheckerResult> results = new ArrayList<>(testCases.size());
+        final Set<String> names = new HashSet<>();
+        // the next suffix to try for each name, so repeated labels do not probe all previous suffixes again
+        final Map<String, Integer> nextSuffixes = new HashMap<>();
+
+        for (int i = 0; i < testCases.size(); ++i) {
+            final TestCase testCase = testCases.get(i);
+
+            String label = sanitizeLabel(testCase.label());
+            if (label.isEmpty()) {
+                label = "case" + (i + 1);
+            }
+            String name = testName + "-" + label;
+            if (!names.add(name)) {
+                name = nextFreeName(name, names, nextSuffixes);
+            }
+
+            results.add(new CheckerResult(name, testCase.successful(), testCase.log()));
+        }
+
+        return results;
+    }
+
+    /**
+     * Appends the lowest suffix to a name that has not been used yet.
+     *
+     * @param name         a name that has already been used.
+     * @param names        the used names, the returned name is added.
+     * @param nextSuffixes the next suffix to try for each name, updated for the given name.
+     * @return the name with a suffix.
+     */
+    private static String nextFreeName(
+        final String name, final Set<String> names, final Map<String, Integer> nextSuffixes
+    ) {
+        int suffix = nextSuffixes.getOrDefault(name, 2);
+        String candidate = name + "-" + suffix;
+        // a suffixed name may also be the name of another test case
+        while (!names.add(candidate)) {
+            ++suffix;
+            candidate = name + "-" + suffix;
+        }
+        nextSuffixes.put(name, suffix + 1);
+        return candidate;
+    }
+
+    /**
+     * Turns the label of a test case into a part of a result name that is safe to use in file names.
+     *
+     * @param label the label of a test case.
+     * @return the label containing only letters, digits, dots, underscores, and dashes.
+     */
+    private static String sanitizeLabel(final String label) {
+        final String sanitized = label.replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("^_+|_+$", "");
+        return sanitized.length() > MAX_LABEL_LENGTH ? sanitized.substring(0, MAX_LABEL_LENGTH) : sanitized;
+    }
+
+    private CheckerResult generateResultMissingFile() throws CheckerException {
+        return new CheckerResult(testName, false, FILE_NOT_FOUND_MESSAGE);
+    }
+}
@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+/**
+ * Parses a Dejagnu log while it is still being written.
+ * <p>
+ * New content is passed to the same incremental scanner and parser as soon as it has been written, so the parsing
+ * overlaps with the test run. The log is finished once {@code runtest} has written its last line, or once a summary
+ * follows the termination of the test run, which is killed before {@code runtest} can complete. Otherwise, the log is
+ * finished once the file has not grown for longer than the idle timeout and is extracted as far as it has been
+ * written. Optionally, a log is finished earlier if it has not grown for a grace period after a summary, e.g. because
+ * the test run has been killed without a termination notice. The grace period should be long enough for the
+ * statistics and any further summaries of a live test run to follow.
+ * <p>
+ * Compressed logs cannot be followed, they are rejected by their magic bytes.
+ */
+class DejagnuLogFollower {
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Duration idleTimeout;
+    private final Optional<Duration> summaryGrace;
+    private final Duration pollInterval;
+
+    /**
+     * Creates a follower.
+     *
+     * @param idleTimeout  the maximum time without new content in the log.
+     * @param summaryGrace if present, the maximum time without new content in the log after a summary.
+     */
+    DejagnuLogFollower(final Duration idleTimeout, final Optional<Duration> summaryGrace) {
+        this(idleTimeout, summaryGrace, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Creates a follower with a custom poll interval.
+     *
+     * @param idleTimeout  the maximum time without new content in the log.
+     * @param summaryGrace if present, the maximum time without new content in the log after a summary.
+     * @param pollInterval the time to wait for new content before checking again.
+     */
+    DejagnuLogFollower(final Duration idleTimeout, final Optional<Duration> summaryGrace, final Duration pollInterval) {
+        this.idleTimeout = idleTimeout;
+        this.summaryGrace = summaryGrace;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Follows the log until the test run has ended or the log has been idle for too long.
+     *
+     * @param logFile the log file, it may not exist yet.
+     * @param parser  the parser the lines are passed to.
+     * @return the extracted log, or nothing if the log file has not been created within the idle timeout.
+     * @throws IOException              if the file cannot be read or is compressed.
+     * @throws InterruptedException     if the thread has been interrupted while waiting for new content.
+     * @throws IllegalArgumentException if the log contains no summary after the first spawned program.
+     */
+    Optional<DejagnuLog> follow(final Path logFile, final DejagnuLogParser parser) throws IOException,
+        InterruptedException, IllegalArgumentException {
+        if (!awaitFile(logFile)) {
+            return Optional.empty();
+        }
+
+        final DejagnuLogScanner scanner = new DejagnuLogScanner(parser);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long lastContent = System.nanoTime();
+
+            while (!parser.isComplete()) {
+                buffer.clear();
+                final int read = channel.read(buffer);
+                if (read > 0 && channel.position() == read && DejagnuLogInput.isGzipMagic(buffer.array(), read)) {
+                    throw new IOException("Compressed log files cannot be followed: " + logFile);
+                }
+                if (read > 0) {
+                    scanner.scan(buffer.array(), 0, read);
+                    lastContent = System.nanoTime();
+                    continue;
+                }
+
+                final long idle = System.nanoTime() - lastContent;
+                if (idle >= idleTimeout.toNanos() || parser.hasSummary() && isGracePeriodOver(idle)) {
+                    break;
+                }
+                Thread.sleep(pollInterval.toMillis());
+            }
+        }
+
+        scanner.finish();
+        return Optional.of(parser.finish());
+    }
+
+    private boolean isGracePeriodOver(final long idle) {
+        return summaryGrace.isPresent() && idle >= summaryGrace.get().toNanos();
+    }
+
+    private boolean awaitFile(final Path logFile) throws InterruptedException {
+        final long start = System.nanoTime();
+        while (!Files.exists(logFile)) {
+            if (System.nanoTime() - start >= idleTimeout.toNanos()) {
+                return false;
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+        return true;
+    }
+}
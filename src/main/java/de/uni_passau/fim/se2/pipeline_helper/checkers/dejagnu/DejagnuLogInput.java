@@ -0,0 +1,81 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens the raw content of a Dejagnu log.
+ * <p>
+ * A log can be read from the standard input instead of a file. Gzip-compressed logs are detected by their magic bytes
+ * and decompressed while they are read.
+ */
+final class DejagnuLogInput {
+
+    /**
+     * The log file name referring to the standard input.
+     */
+    static final String STANDARD_INPUT = "-";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAGIC_LENGTH = 2;
+
+    private DejagnuLogInput() {
+    }
+
+    static boolean isStandardInput(final Path logFile) {
+        return STANDARD_INPUT.equals(logFile.toString());
+    }
+
+    /**
+     * Checks if a log file is gzip-compressed.
+     *
+     * @param logFile an existing log file.
+     * @return true if the file starts with the gzip magic bytes.
+     * @throws IOException if the file cannot be read.
+     */
+    static boolean isCompressed(final Path logFile) throws IOException {
+        try (InputStream input = Files.newInputStream(logFile)) {
+            final byte[] magic = input.readNBytes(MAGIC_LENGTH);
+            return isGzipMagic(magic, magic.length);
+        }
+    }
+
+    /**
+     * Wraps the raw log in a decompressing stream if it is gzip-compressed.
+     *
+     * @param input the possibly compressed log.
+     * @return a stream of the uncompressed log. Closing it closes the given stream.
+     * @throws IOException if the start of the input cannot be read or the gzip header is invalid.
+     */
+    static InputStream decompressIfNeeded(final InputStream input) throws IOException {
+        final PushbackInputStream pushback = new PushbackInputStream(input, MAGIC_LENGTH);
+        final byte[] magic = pushback.readNBytes(MAGIC_LENGTH);
+        pushback.unread(magic);
+
+        if (isGzipMagic(magic, magic.length)) {
+            return new GZIPInputStream(pushback, BUFFER_SIZE);
+        }
+        return pushback;
+    }
+
+    /**
+     * Checks if the start of a log consists of the gzip magic bytes.
+     *
+     * @param start  the first bytes of the log.
+     * @param length the number of valid bytes in {@code start}.
+     * @return true if at least the magic bytes are given and match.
+     */
+    static boolean isGzipMagic(final byte[] start, final int length) {
+        return length >= MAGIC_LENGTH
+            && (start[0] & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+            && (start[1] & 0xFF) == GZIPInputStream.GZIP_MAGIC >>> 8;
+    }
+}
@@ -0,0 +1,230 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
+
+/**
+ * Extracts the relevant part of a Dejagnu log while its lines are streamed past.
+ * <p>
+ * The relevant part starts at the first spawned program and ends before the last summary. Lines following a summary
+ * are only kept tentatively until the next summary confirms them.
+ * <p>
+ * Only a fixed-size head and tail of the relevant part are kept, independent of the size of the log. The lines in
+ * between are replaced by a marker stating how many lines have been omitted. Alternatively, the relevant part is split
+ * into test cases.
+ */
+class DejagnuLogParser {
+
+    /**
+     * Room left in a message for the timeout notice and the omission marker.
+     */
+    private static final int RESERVED_MESSAGE_LENGTH = 1_000;
+    static final int DEFAULT_WINDOW_LENGTH = (CheckerResult.MAX_MESSAGE_LENGTH - RESERVED_MESSAGE_LENGTH) / 2;
+
+    static final List<LineRewriter> DEFAULT_REWRITERS = List.of(BuiltInRewriter.STACK_TRACES);
+
+    private boolean foundStart = false;
+    private boolean foundEnd = false;
+    private boolean foundFailures = false;
+    private boolean hasPassingTests = false;
+    private boolean hasBeenTerminated = false;
+    private boolean foundCompletion = false;
+    private boolean foundSummaryAfterTermination = false;
+
+    private final LogWindow window;
+
+    /**
+     * Splits the relevant part into test cases if present, the window is unused then.
+     */
+    private final TestCaseSplitter splitter;
+
+    private final LineRewriter[] rewriters;
+
+    /**
+     * The extracted part of a Dejagnu log.
+     *
+     * @param log               the log from the first spawned program to the last summary. If the log has been split
+     *                          into test cases, only the output following the last test case.
+     * @param hasFailures       if the log reports failed tests.
+     * @param hasPassingTests   if the log reports passed tests.
+     * @param hasBeenTerminated if the test run has been aborted.
+     * @param testCases         the first test cases in the relevant part, empty if the log has not been split.
+     * @param testCaseCount     the number of all test cases in the relevant part, including those not kept.
+     * @param passedCount       the number of successful test cases in the relevant part, including those not kept.
+     */
+    record DejagnuLog(
+        String log, boolean hasFailures, boolean hasPassingTests, boolean hasBeenTerminated,
+        List<TestCaseSplitter.TestCase> testCases, int testCaseCount, int passedCount
+    ) {
+    }
+
+    DejagnuLogParser() {
+        this(DEFAULT_WINDOW_LENGTH, DEFAULT_WINDOW_LENGTH);
+    }
+
+    /**
+     * Creates a new parser that splits the relevant part of the log into test cases.
+     *
+     * @param splitter collects the test cases.
+     */
+    DejagnuLogParser(final TestCaseSplitter splitter) {
+        this(null, splitter, DEFAULT_REWRITERS);
+    }
+
+    /**
+     * Creates a new parser with custom window sizes.
+     *
+     * @param headLength the maximum number of characters kept from the start of the relevant part.
+     * @param tailLength the maximum number of characters kept from the end of the relevant part.
+     */
+    DejagnuLogParser(final int headLength, final int tailLength) {
+        this(new LogWindow(headLength, tailLength), null, DEFAULT_REWRITERS);
+    }
+
+    /**
+     * Creates a new parser with default window sizes.
+     *
+     * @param rewriters          applied in order to each line of the relevant part.
+     * @param splitTestCases     if the relevant part is split into test cases.
+     * @param maxTestCases       the maximum number of test cases whose output is kept if the log is split.
+     * @param compactRepetitions if repeated lines are folded after they have been rewritten.
+     */
+    DejagnuLogParser(
+        final List<LineRewriter> rewriters, final boolean splitTestCases, final int maxTestCases,
+        final boolean compactRepetitions
+    ) {
+        this(
+            splitTestCases ? null : new LogWindow(DEFAULT_WINDOW_LENGTH, DEFAULT_WINDOW_LENGTH, compactRepetitions),
+            splitTestCases
+                ? new TestCaseSplitter(TestCaseSplitter.DEFAULT_WINDOW_LENGTH, maxTestCases, compactRepetitions)
+                : null,
+            rewriters
+        );
+    }
+
+    private DejagnuLogParser(
+        final LogWindow window, final TestCaseSplitter splitter, final List<LineRewriter> rewriters
+    ) {
+        this.window = window;
+        this.splitter = splitter;
+        this.rewriters = rewriters.toArray(LineRewriter[]::new);
+    }
+
+    void accept(final String line) {
+        accept(DejagnuMarker.find(line), () -> line);
+    }
+
+    /**
+     * Processes the next line of the log.
+     *
+     * @param markers the markers found in the line, see {@link DejagnuMarker}.
+     * @param line    the content of the line, only requested if it is part of the relevant part of the log.
+     */
+    void accept(final int markers, final Supplier<String> line) {
+        foundCompletion |= DejagnuMarker.COMPLETED.isIn(markers);
+
+        // log starts with first program start
+        if (DejagnuMarker.SPAWN.isIn(markers) && !foundStart) {
+            foundStart = true;
+        }
+        else if (DejagnuMarker.SUMMARY.isIn(markers)) {
+            // the summary itself only becomes part of the log if another summary follows
+            commit();
+            foundSummaryAfterTermination |= hasBeenTerminated && foundEnd;
+        }
+        else if (DejagnuMarker.TERMINATED.isIn(markers)) {
+            hasBeenTerminated = true;
+        }
+        else if (DejagnuMarker.PASSES.isIn(markers)) {
+            hasPassingTests = true;
+        }
+        else if (DejagnuMarker.FAILURES.isIn(markers)) {
+            foundFailures = true;
+        }
+
+        if (foundStart) {
+            final String processed = rewrite(rewriters, line.get());
+            if (splitter == null) {
+                window.append(processed);
+            }
+            else {
+                splitter.accept(markers, processed);
+            }
+        }
+    }
+
+    /**
+     * Checks if a summary has been read, more summaries and the statistics of the last one may still follow.
+     *
+     * @return true if the log read so far can be finished.
+     */
+    boolean hasSummary() {
+        return foundEnd;
+    }
+
+    /**
+     * Checks if {@code runtest} has written its last line, or if the test run has been terminated and summarised.
+     * <p>
+     * A terminated test run is usually killed before {@code runtest} can complete, so its log ends after the summary.
+     *
+     * @return true if no more relevant lines are expected.
+     */
+    boolean isComplete() {
+        return foundCompletion || foundSummaryAfterTermination;
+    }
+
+    /**
+     * Finishes the extraction after the last line has been read.
+     *
+     * @return the extracted log.
+     * @throws IllegalArgumentException if the log contains no summary after the first spawned program.
+     */
+    DejagnuLog finish() throws IllegalArgumentException {
+        if (!foundStart || !foundEnd) {
+            throw new IllegalArgumentException("Missing start or end of the Dejagnu log.");
+        }
+
+        if (splitter == null) {
+            return new DejagnuLog(window.build(), foundFailures, hasPassingTests, hasBeenTerminated, List.of(), 0, 0);
+        }
+        return new DejagnuLog(
+            splitter.remainder(), foundFailures, hasPassingTests, hasBeenTerminated, splitter.testCases(),
+            splitter.totalCount(), splitter.passedCount()
+        );
+    }
+
+    private void commit() {
+        if (!foundStart) {
+            return;
+        }
+
+        foundEnd = true;
+        if (splitter == null) {
+            window.commit();
+        }
+        else {
+            splitter.commit();
+        }
+    }
+
+    /**
+     * Applies the rewriters to a line.
+     *
+     * @param rewriters the rewriters in the order they are applied.
+     * @param line      a line of the relevant part.
+     * @return the rewritten line.
+     */
+    static String rewrite(final LineRewriter[] rewriters, final String line) {
+        String rewritten = line;
+        for (final LineRewriter rewriter : rewriters) {
+            rewritten = rewriter.rewrite(rewritten);
+        }
+        return rewritten;
+    }
+}
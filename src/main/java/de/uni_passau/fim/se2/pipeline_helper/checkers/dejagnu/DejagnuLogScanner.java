@@ -0,0 +1,174 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Splits a raw Dejagnu log into lines and classifies them before they are decoded.
+ * <p>
+ * Lines are terminated by {@code '\n'}, {@code '\r'}, or {@code "\r\n"} like in {@link java.io.BufferedReader}. Each
+ * byte is fed through the {@link DejagnuMarker#MATCHER} exactly once. A line is only decoded if the parser asks for
+ * its content. Only the start of overly long lines is kept, markers are still found in the whole line.
+ */
+class DejagnuLogScanner implements Supplier<String> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Enough bytes for the longest line the parser can keep.
+     */
+    static final int DEFAULT_MAX_LINE_LENGTH = 16 * 1024 * 1024;
+
+    private final MarkerMatcher matcher = DejagnuMarker.MATCHER;
+    private final DejagnuLogParser parser;
+    private final byte[] buffer;
+    private final int maxLineLength;
+
+    /**
+     * Bytes of the current line that have been carried over from previous reads.
+     */
+    private byte[] carried = new byte[256];
+    private int carriedLength = 0;
+
+    private byte[] lineBytes;
+    private int lineStart;
+    private int lineEnd;
+
+    private int state;
+    private int lineMarkers = 0;
+    private boolean inLine = false;
+    private boolean skipLineFeed = false;
+
+    DejagnuLogScanner(final DejagnuLogParser parser) {
+        this(parser, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Creates a scanner with custom buffer sizes.
+     *
+     * @param parser        the parser the classified lines are passed to.
+     * @param bufferSize    the number of bytes read at once.
+     * @param maxLineLength the maximum number of bytes kept for a single line.
+     */
+    DejagnuLogScanner(final DejagnuLogParser parser, final int bufferSize, final int maxLineLength) {
+        this.parser = parser;
+        this.buffer = new byte[bufferSize];
+        this.maxLineLength = maxLineLength;
+        // the start of the log is the start of a line
+        this.state = matcher.next(matcher.initialState(), (byte) '\n');
+    }
+
+    /**
+     * Reads the input until its end and passes all lines to the parser.
+     *
+     * @param input the raw log.
+     * @throws IOException if the input cannot be read.
+     */
+    void scan(final InputStream input) throws IOException {
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            scan(buffer, 0, read);
+        }
+        finish();
+    }
+
+    /**
+     * Scans the next bytes of the log.
+     *
+     * @param bytes  an array containing the bytes.
+     * @param offset the index of the first byte to scan.
+     * @param length the number of bytes to scan.
+     */
+    void scan(final byte[] bytes, final int offset, final int length) {
+        final int end = offset + length;
+        int start = offset;
+
+        for (int i = offset; i < end; ++i) {
+            final byte b = bytes[i];
+
+            if (b == '\n' || b == '\r') {
+                if (b == '\n' && skipLineFeed) {
+                    skipLineFeed = false;
+                    start = i + 1;
+                    continue;
+                }
+
+                skipLineFeed = b == '\r';
+                endLine(bytes, start, i);
+                start = i + 1;
+            }
+            else {
+                skipLineFeed = false;
+                inLine = true;
+                state = matcher.next(state, b);
+                lineMarkers |= matcher.markers(state);
+            }
+        }
+
+        carry(bytes, start, end);
+    }
+
+    /**
+     * Passes the last line to the parser if the log does not end with a line terminator.
+     */
+    void finish() {
+        if (inLine) {
+            endLine(carried, 0, 0);
+        }
+    }
+
+    /**
+     * Decodes the current line.
+     *
+     * @return the content of the current line.
+     */
+    @Override
+    public String get() {
+        return new String(lineBytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+    }
+
+    private void endLine(final byte[] bytes, final int start, final int end) {
+        state = matcher.next(state, (byte) '\n');
+        lineMarkers |= matcher.markers(state);
+
+        if (carriedLength == 0) {
+            setLine(bytes, start, end);
+        }
+        else {
+            carry(bytes, start, end);
+            setLine(carried, 0, carriedLength);
+        }
+
+        parser.accept(lineMarkers, this);
+
+        lineMarkers = 0;
+        carriedLength = 0;
+        inLine = false;
+    }
+
+    private void setLine(final byte[] bytes, final int start, final int end) {
+        lineBytes = bytes;
+        lineStart = start;
+        lineEnd = Math.min(end, start + maxLineLength);
+    }
+
+    private void carry(final byte[] bytes, final int start, final int end) {
+        final int length = Math.min(end - start, maxLineLength - carriedLength);
+        if (length <= 0) {
+            return;
+        }
+
+        if (carriedLength + length > carried.length) {
+            carried = Arrays.copyOf(carried, Math.max(carried.length * 2, carriedLength + length));
+        }
+        System.arraycopy(bytes, start, carried, carriedLength, length);
+        carriedLength += length;
+    }
+}
@@ -0,0 +1,84 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lines in a Dejagnu log that influence the extracted log or the result.
+ * <p>
+ * A leading {@code '\n'} anchors a pattern at the start of a line, a trailing one at the end of a line.
+ */
+enum DejagnuMarker {
+
+    /**
+     * A program has been started, the first one marks the start of the relevant part of the log.
+     */
+    SPAWN("\nspawn "),
+    /**
+     * The relevant part of the log ends before the last summary.
+     */
+    SUMMARY("Summary ===\n"),
+    TERMINATED("got a TERM signal, terminated"),
+    PASSES("\n# of expected passes"),
+    FAILURES("\n# of unexpected failures", "\nFAIL:"),
+    /**
+     * The outcome of a single test case, may follow a prompt of the tested program.
+     */
+    OUTCOME("PASS: ", "FAIL: "),
+    /**
+     * The last line written by {@code runtest}.
+     */
+    COMPLETED("\nruntest completed");
+
+    /**
+     * Matches all markers at once. Line terminators have to be fed as {@code '\n'}, including one before the first
+     * line.
+     */
+    static final MarkerMatcher MATCHER = buildMatcher();
+
+    private final int mask;
+    private final List<String> patterns;
+
+    DejagnuMarker(final String... patterns) {
+        this.mask = 1 << ordinal();
+        this.patterns = List.of(patterns);
+    }
+
+    boolean isIn(final int markers) {
+        return (markers & mask) != 0;
+    }
+
+    /**
+     * Finds the markers in a single line without line terminator.
+     *
+     * @param line a line of the log.
+     * @return the masks of all markers in the line.
+     */
+    static int find(final String line) {
+        int state = MATCHER.next(MATCHER.initialState(), (byte) '\n');
+        int markers = 0;
+        for (final byte b : line.getBytes(StandardCharsets.UTF_8)) {
+            state = MATCHER.next(state, b);
+            markers |= MATCHER.markers(state);
+        }
+        state = MATCHER.next(state, (byte) '\n');
+        return markers | MATCHER.markers(state);
+    }
+
+    private static MarkerMatcher buildMatcher() {
+        final List<String> patterns = new ArrayList<>();
+        final List<Integer> masks = new ArrayList<>();
+        for (final DejagnuMarker marker : values()) {
+            for (final String pattern : marker.patterns) {
+                patterns.add(pattern);
+                masks.add(marker.mask);
+            }
+        }
+        return new MarkerMatcher(patterns, masks);
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+/**
+ * Keeps the first lines up to a fixed total length.
+ * <p>
+ * Once a line does not fit anymore, the buffer is full and rejects all following lines, so the kept lines are always
+ * contiguous. Lines can be added tentatively and are only kept permanently once they are committed.
+ */
+class HeadBuffer {
+
+    private final int capacity;
+    private final StringBuilder content = new StringBuilder();
+
+    private int lines = 0;
+    private boolean full = false;
+
+    private int committedLength = 0;
+    private int committedLines = 0;
+
+    HeadBuffer(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the line if it still fits.
+     *
+     * @param line the next line.
+     * @return false if the buffer is full, the line has not been added then.
+     */
+    boolean add(final String line) {
+        if (full || content.length() + line.length() + 1 > capacity) {
+            full = true;
+            return false;
+        }
+
+        if (lines > 0) {
+            content.append('\n');
+        }
+        content.append(line);
+        lines += 1;
+
+        return true;
+    }
+
+    /**
+     * Keeps all lines that have been added so far.
+     */
+    void commit() {
+        committedLength = content.length();
+        committedLines = lines;
+    }
+
+    int committedLines() {
+        return committedLines;
+    }
+
+    /**
+     * Appends the committed lines separated by newlines.
+     *
+     * @param sb the builder the lines are appended to.
+     */
+    void appendCommittedTo(final StringBuilder sb) {
+        sb.append(content, 0, committedLength);
+    }
+}
@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+/**
+ * Rewrites a single line of a Dejagnu log before it becomes part of the message.
+ * <p>
+ * The rewriters are applied in order to each line of the extracted log while it is parsed. Rewriters should return the
+ * given line itself if it does not need to be changed, so unaffected lines cause no allocations.
+ */
+@FunctionalInterface
+public interface LineRewriter {
+
+    /**
+     * Rewrites a line.
+     *
+     * @param line a line of the log without line terminator.
+     * @return the rewritten line, the given line if nothing has been changed.
+     */
+    String rewrite(String line);
+}
@@ -0,0 +1,45 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+/**
+ * Replaces all occurrences of a literal text in a line.
+ *
+ * @param search      the text to replace, not empty.
+ * @param replacement the text inserted instead.
+ */
+public record LiteralRewriter(String search, String replacement) implements LineRewriter {
+
+    private static final char SEPARATOR = '=';
+
+    public LiteralRewriter {
+        if (search.isEmpty()) {
+            throw new IllegalArgumentException("The text to replace cannot be empty.");
+        }
+    }
+
+    /**
+     * Parses a rule of the form {@code search=replacement}.
+     *
+     * @param rule the rule, the first {@code =} separates the text to replace from the replacement.
+     * @return the rewriter applying the rule.
+     * @throws IllegalArgumentException if the rule contains no separator or nothing to replace.
+     */
+    public static LiteralRewriter parse(final String rule) throws IllegalArgumentException {
+        final int separator = rule.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException(
+                String.format("Missing '%s' in replacement rule '%s'.", SEPARATOR, rule)
+            );
+        }
+        return new LiteralRewriter(rule.substring(0, separator), rule.substring(separator + 1));
+    }
+
+    @Override
+    public String rewrite(final String line) {
+        // does not allocate if the text does not occur
+        return line.replace(search, replacement);
+    }
+}
@@ -0,0 +1,131 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+/**
+ * Keeps a fixed-size head and tail of a sequence of lines.
+ * <p>
+ * The lines in between are replaced by a marker stating how many lines have been omitted. Lines are only added
+ * tentatively until they are committed, uncommitted lines are not part of the built text.
+ * <p>
+ * Optionally, repeated lines are folded before they are added, see {@link RepetitionCompactor}.
+ */
+class LogWindow {
+
+    private static final String OMITTED_LINES_MARKER = "[... %d lines omitted ...]";
+
+    /**
+     * The start of the lines, the uncommitted lines are only added tentatively.
+     */
+    private final HeadBuffer head;
+
+    /**
+     * The committed lines that did not fit into the head.
+     */
+    private final TailBuffer tail;
+
+    /**
+     * The uncommitted lines that did not fit into the head.
+     */
+    private final TailBuffer pending;
+
+    /**
+     * Folds repeated lines before they are added, null if repetitions are kept.
+     */
+    private final RepetitionCompactor compactor;
+
+    private long lines = 0;
+    private long committedLines = 0;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param headLength the maximum number of characters kept from the start.
+     * @param tailLength the maximum number of characters kept from the end.
+     */
+    LogWindow(final int headLength, final int tailLength) {
+        this(headLength, tailLength, false);
+    }
+
+    /**
+     * Creates an empty window.
+     *
+     * @param headLength         the maximum number of characters kept from the start.
+     * @param tailLength         the maximum number of characters kept from the end.
+     * @param compactRepetitions if repeated lines are folded.
+     */
+    LogWindow(final int headLength, final int tailLength, final boolean compactRepetitions) {
+        this.head = new HeadBuffer(headLength);
+        this.tail = new TailBuffer(tailLength);
+        this.pending = new TailBuffer(tailLength);
+        this.compactor = compactRepetitions ? new RepetitionCompactor(this::add) : null;
+    }
+
+    void append(final String line) {
+        if (compactor == null) {
+            add(line);
+        }
+        else {
+            compactor.accept(line);
+        }
+    }
+
+    private void add(final String line) {
+        lines += 1;
+
+        // once the head is full, all following lines belong to the tail to keep the omitted lines contiguous
+        if (!head.add(line)) {
+            pending.add(line);
+        }
+    }
+
+    /**
+     * Keeps all lines that have been appended so far.
+     */
+    void commit() {
+        if (compactor != null) {
+            compactor.flush();
+        }
+
+        head.commit();
+        committedLines = lines;
+
+        // evicted pending lines are newer than the whole tail, keeping any of the tail would leave a gap
+        if (pending.evictedLines() > 0) {
+            tail.clear();
+        }
+        pending.moveTo(tail);
+    }
+
+    /**
+     * Joins the kept start and end of the committed lines.
+     *
+     * @return the committed lines separated by newlines.
+     */
+    String build() {
+        final StringBuilder text = new StringBuilder();
+        head.appendCommittedTo(text);
+        return build(text, committedLines - head.committedLines() - tail.size(), tail);
+    }
+
+    /**
+     * Joins the kept start and end of a sequence of lines.
+     *
+     * @param head         the lines kept from the start. The text is appended to it.
+     * @param omittedLines the number of lines between the head and the tail.
+     * @param tail         the lines kept from the end.
+     * @return the lines separated by newlines.
+     */
+    static String build(final StringBuilder head, final long omittedLines, final TailBuffer tail) {
+        if (omittedLines > 0) {
+            head.append('\n').append(OMITTED_LINES_MARKER.formatted(omittedLines));
+        }
+        if (!tail.isEmpty()) {
+            head.append('\n');
+            tail.appendTo(head);
+        }
+        return head.toString();
+    }
+}
@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Random read access to a log file mapped into memory.
+ * <p>
+ * A single mapping is limited to 2 GiB, larger files are mapped in several consecutive parts. Only absolute reads are
+ * used, so the file can be read from multiple threads at once.
+ */
+class MappedLogFile {
+
+    private static final int DEFAULT_MAPPING_SHIFT = 30;
+
+    private final long size;
+    private final int mappingShift;
+    private final long mappingMask;
+    private final MappedByteBuffer[] mappings;
+
+    MappedLogFile(final FileChannel channel) throws IOException {
+        this(channel, DEFAULT_MAPPING_SHIFT);
+    }
+
+    /**
+     * Maps the whole file.
+     *
+     * @param channel      the opened file. It can be closed once the file has been mapped.
+     * @param mappingShift the size of each mapping as power of two.
+     * @throws IOException if the file cannot be mapped.
+     */
+    MappedLogFile(final FileChannel channel, final int mappingShift) throws IOException {
+        this.size = channel.size();
+        this.mappingShift = mappingShift;
+        this.mappingMask = (1L << mappingShift) - 1;
+
+        final int mappingCount = (int) ((size + mappingMask) >>> mappingShift);
+        this.mappings = new MappedByteBuffer[mappingCount];
+        for (int i = 0; i < mappingCount; ++i) {
+            final long start = (long) i << mappingShift;
+            mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, mappingMask + 1));
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(final long position) {
+        return mappings[(int) (position >>> mappingShift)].get((int) (position & mappingMask));
+    }
+
+    /**
+     * Checks if a line terminator is at the given position.
+     *
+     * @param position a position in the file, may be outside the file.
+     * @return true if the byte at the position is {@code '\n'} or {@code '\r'}.
+     */
+    boolean isLineTerminator(final long position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        final byte b = get(position);
+        return b == '\n' || b == '\r';
+    }
+
+    /**
+     * Finds the start of the line following the line terminator at the given position.
+     *
+     * @param terminator the position of a {@code '\n'} or {@code '\r'}.
+     * @return the position after the terminator, {@code "\r\n"} is treated as a single terminator.
+     */
+    long skipLineTerminator(final long terminator) {
+        if (get(terminator) == '\r' && terminator + 1 < size && get(terminator + 1) == '\n') {
+            return terminator + 2;
+        }
+        return terminator + 1;
+    }
+
+    /**
+     * Finds the first line start at or after the given position.
+     *
+     * @param position a position in the file.
+     * @return the start of the next line, or the size of the file if no further line starts.
+     */
+    long alignToLineStart(final long position) {
+        if (position <= 0) {
+            return 0;
+        }
+
+        // a line feed directly after a carriage return belongs to the same terminator
+        long current = get(position - 1) == '\r' && position < size && get(position) == '\n' ? position : position - 1;
+        while (current < size) {
+            if (isLineTerminator(current)) {
+                return skipLineTerminator(current);
+            }
+            current += 1;
+        }
+        return size;
+    }
+
+    /**
+     * Decodes a part of the file.
+     *
+     * @param start the position of the first byte.
+     * @param end   the position after the last byte, at most {@link Integer#MAX_VALUE} bytes after the start.
+     * @return the decoded text, invalid byte sequences are replaced.
+     */
+    String decode(final long start, final long end) {
+        final byte[] bytes = new byte[(int) (end - start)];
+
+        int copied = 0;
+        while (copied < bytes.length) {
+            final long position = start + copied;
+            final int offset = (int) (position & mappingMask);
+            final int length = (int) Math.min(bytes.length - copied, mappingMask + 1 - offset);
+            mappings[(int) (position >>> mappingShift)].get(offset, bytes, copied, length);
+            copied += length;
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
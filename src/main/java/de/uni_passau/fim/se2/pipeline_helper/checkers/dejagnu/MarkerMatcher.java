@@ -0,0 +1,127 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds a fixed set of byte patterns in a single pass over the input.
+ * <p>
+ * The patterns are compiled into an Aho–Corasick automaton with a full transition table, so each input byte costs a
+ * single table lookup regardless of the number of patterns. Each pattern is associated with a bit mask, the masks of
+ * all patterns ending at the current position can be queried after each step.
+ * <p>
+ * Patterns can be anchored at the start or end of a line by starting or ending them with {@code '\n'} as long as line
+ * terminators are fed into the automaton as {@code '\n'}.
+ */
+class MarkerMatcher {
+
+    private static final int ALPHABET_SIZE = 256;
+
+    private final int[] transitions;
+    private final int[] markers;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param patterns the patterns to search for.
+     * @param masks    the bit mask reported for the pattern at the same index.
+     */
+    MarkerMatcher(final List<String> patterns, final List<Integer> masks) {
+        final List<int[]> trie = new ArrayList<>();
+        final List<Integer> trieMarkers = new ArrayList<>();
+        trie.add(newNode());
+        trieMarkers.add(0);
+
+        for (int i = 0; i < patterns.size(); ++i) {
+            int state = 0;
+            for (final byte b : patterns.get(i).getBytes(StandardCharsets.UTF_8)) {
+                final int symbol = b & 0xFF;
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newNode());
+                    trieMarkers.add(0);
+                }
+                state = trie.get(state)[symbol];
+            }
+            trieMarkers.set(state, trieMarkers.get(state) | masks.get(i));
+        }
+
+        transitions = new int[trie.size() * ALPHABET_SIZE];
+        markers = new int[trie.size()];
+        buildAutomaton(trie, trieMarkers);
+    }
+
+    private static int[] newNode() {
+        final int[] node = new int[ALPHABET_SIZE];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private void buildAutomaton(final List<int[]> trie, final List<Integer> trieMarkers) {
+        final int[] failure = new int[trie.size()];
+        final Deque<Integer> queue = new ArrayDeque<>();
+
+        // breadth-first, so the failure state of each state has been completed before the state itself
+        for (int symbol = 0; symbol < ALPHABET_SIZE; ++symbol) {
+            final int child = trie.get(0)[symbol];
+            if (child < 0) {
+                transitions[symbol] = 0;
+            }
+            else {
+                transitions[symbol] = child;
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        markers[0] = trieMarkers.get(0);
+
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            markers[state] = trieMarkers.get(state) | markers[failure[state]];
+
+            for (int symbol = 0; symbol < ALPHABET_SIZE; ++symbol) {
+                final int child = trie.get(state)[symbol];
+                final int fallback = transitions[failure[state] * ALPHABET_SIZE + symbol];
+                if (child < 0) {
+                    transitions[state * ALPHABET_SIZE + symbol] = fallback;
+                }
+                else {
+                    transitions[state * ALPHABET_SIZE + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * The state before any input has been read.
+     *
+     * @return the initial state.
+     */
+    int initialState() {
+        return 0;
+    }
+
+    int next(final int state, final byte input) {
+        return transitions[state * ALPHABET_SIZE + (input & 0xFF)];
+    }
+
+    /**
+     * Gets the combined masks of all patterns that end with the last input leading to the state.
+     *
+     * @param state the current state of the automaton.
+     * @return the bitwise or of the masks of all matching patterns.
+     */
+    int markers(final int state) {
+        return markers[state];
+    }
+}
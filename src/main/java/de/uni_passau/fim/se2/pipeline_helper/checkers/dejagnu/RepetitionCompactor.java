@@ -0,0 +1,303 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Folds repetitions of single lines or short cycles of lines while the lines are streamed past.
+ * <p>
+ * Once a line or a cycle of up to {@link #MAX_PERIOD} lines has been repeated {@link #MIN_REPEATS} times in a row,
+ * all further repetitions are counted instead of passed on. The whole repetition is then replaced by a single marker
+ * line after the first occurrence. Only the last few lines are kept, independent of the number of repetitions.
+ * <p>
+ * Lines are also repetitions if they only differ in numbers, e.g. a loop counter, a hexadecimal address, or a
+ * timestamp. Only the first occurrence is kept then, and the marker states that the numbers differ.
+ */
+class RepetitionCompactor {
+
+    /**
+     * The maximum number of lines in a repeated cycle.
+     */
+    static final int MAX_PERIOD = 8;
+
+    /**
+     * The number of repetitions after the first occurrence needed to fold them.
+     */
+    static final int MIN_REPEATS = 3;
+
+    private static final String REPEATED_LINE_MARKER = "[... previous line repeated %d times%s ...]";
+    private static final String REPEATED_LINES_MARKER = "[... previous %d lines repeated %d times%s ...]";
+    private static final String VARYING_NUMBERS_NOTE = " with different numbers";
+    private static final char NUMBER_MASK = '#';
+
+    /**
+     * Lines that are not passed on yet since they may turn out to be repetitions.
+     */
+    private static final int MAX_HELD_LINES = MAX_PERIOD * MIN_REPEATS;
+
+    private final Consumer<String> output;
+
+    /**
+     * The most recent lines, the line {@code p} lines back is at {@code (count - p) % MAX_PERIOD}.
+     */
+    private final String[] history = new String[MAX_PERIOD];
+
+    /**
+     * The most recent lines with masked numbers, see {@link #maskNumbers(String)}, and their hashes.
+     */
+    private final String[] masked = new String[MAX_PERIOD];
+    private final int[] hashes = new int[MAX_PERIOD];
+    private long count = 0;
+
+    /**
+     * The number of most recent lines equal to the line {@code p} lines before them except for numbers, indexed by
+     * {@code p}.
+     */
+    private final int[] streaks = new int[MAX_PERIOD + 1];
+
+    /**
+     * The number of most recent lines exactly equal to the line {@code p} lines before them, indexed by {@code p}.
+     */
+    private final int[] exactStreaks = new int[MAX_PERIOD + 1];
+
+    private final Deque<String> held = new ArrayDeque<>();
+
+    /**
+     * The number of lines in the folded cycle, zero while not folding.
+     */
+    private int period = 0;
+    private long foldedLines = 0;
+    private boolean foldedVaryingNumbers = false;
+
+    /**
+     * Creates a compactor.
+     *
+     * @param output receives the compacted lines.
+     */
+    RepetitionCompactor(final Consumer<String> output) {
+        this.output = output;
+    }
+
+    void accept(final String line) {
+        final String key = maskNumbers(line);
+        final int hash = key.hashCode();
+
+        if (period > 0) {
+            if (continuesFold(line, key, hash)) {
+                return;
+            }
+            endFold();
+        }
+
+        final int foldPeriod = updateStreaks(line, key, hash);
+        remember(line, key, hash);
+
+        if (foldPeriod > 0) {
+            startFold(foldPeriod, line);
+        }
+        else if (mayRepeat()) {
+            held.addLast(line);
+            if (held.size() > MAX_HELD_LINES) {
+                output.accept(held.removeFirst());
+            }
+        }
+        else {
+            passHeldLines();
+            output.accept(line);
+        }
+    }
+
+    /**
+     * Passes on all lines that are held back or folded.
+     */
+    void flush() {
+        if (period > 0) {
+            endFold();
+        }
+        else {
+            passHeldLines();
+            reset();
+        }
+    }
+
+    /**
+     * Extends or ends the streaks of all periods by a line that is not folded.
+     *
+     * @return the shortest period whose streak is long enough to fold it, zero if there is none.
+     */
+    private int updateStreaks(final String line, final String key, final int hash) {
+        int foldPeriod = 0;
+        for (int p = 1; p <= MAX_PERIOD; ++p) {
+            final boolean matches = matches(p, key, hash);
+            streaks[p] = matches ? streaks[p] + 1 : 0;
+            exactStreaks[p] = matches && matchesExactly(p, line) ? exactStreaks[p] + 1 : 0;
+            if (foldPeriod == 0 && streaks[p] >= MIN_REPEATS * p) {
+                foldPeriod = p;
+            }
+        }
+        return foldPeriod;
+    }
+
+    private boolean mayRepeat() {
+        for (int p = 1; p <= MAX_PERIOD; ++p) {
+            if (streaks[p] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts a line as folded if it continues the folded cycle.
+     */
+    private boolean continuesFold(final String line, final String key, final int hash) {
+        if (!matches(period, key, hash)) {
+            return false;
+        }
+
+        foldedLines += 1;
+        foldedVaryingNumbers |= !matchesExactly(period, line);
+        remember(line, key, hash);
+        return true;
+    }
+
+    private boolean matches(final int p, final String key, final int hash) {
+        if (count < p) {
+            return false;
+        }
+
+        final int index = (int) ((count - p) % MAX_PERIOD);
+        return hashes[index] == hash && masked[index].equals(key);
+    }
+
+    /**
+     * Checks if a line matching the line {@code p} lines back also has the same numbers.
+     */
+    private boolean matchesExactly(final int p, final String line) {
+        return history[(int) ((count - p) % MAX_PERIOD)].equals(line);
+    }
+
+    private void remember(final String line, final String key, final int hash) {
+        final int index = (int) (count % MAX_PERIOD);
+        history[index] = line;
+        masked[index] = key;
+        hashes[index] = hash;
+        count += 1;
+    }
+
+    /**
+     * Replaces each number in a line by a single {@link #NUMBER_MASK}.
+     * <p>
+     * A number is a word consisting of hexadecimal digits that contains at least one decimal digit, optionally
+     * prefixed by {@code 0x}. Decimal fractions and timestamps are masked part by part.
+     *
+     * @param line a line of the log.
+     * @return the masked line, the line itself if it contains no digits.
+     */
+    static String maskNumbers(final String line) {
+        int start = 0;
+        while (start < line.length() && !isDigit(line.charAt(start))) {
+            ++start;
+        }
+        if (start == line.length()) {
+            return line;
+        }
+
+        final StringBuilder result = new StringBuilder(line.length());
+        int i = 0;
+        while (i < line.length()) {
+            if (!isWordCharacter(line.charAt(i))) {
+                result.append(line.charAt(i));
+                ++i;
+                continue;
+            }
+
+            int end = i;
+            boolean hexadecimal = true;
+            boolean hasDigit = false;
+            while (end < line.length() && isWordCharacter(line.charAt(end))) {
+                final char c = line.charAt(end);
+                final boolean hexPrefix = end == i + 1 && (c == 'x' || c == 'X') && line.charAt(i) == '0';
+                hexadecimal &= Character.digit(c, 16) >= 0 || hexPrefix;
+                hasDigit |= isDigit(c);
+                ++end;
+            }
+
+            if (hexadecimal && hasDigit) {
+                result.append(NUMBER_MASK);
+            }
+            else {
+                result.append(line, i, end);
+            }
+            i = end;
+        }
+        return result.toString();
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWordCharacter(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private void startFold(final int foldPeriod, final String line) {
+        // the last repetitions have all been held back, older held lines are passed on
+        held.addLast(line);
+        while (held.size() > MIN_REPEATS * foldPeriod) {
+            output.accept(held.removeFirst());
+        }
+
+        period = foldPeriod;
+        foldedLines = held.size();
+        foldedVaryingNumbers = exactStreaks[foldPeriod] < foldedLines;
+        held.clear();
+    }
+
+    private void endFold() {
+        final long repeats = foldedLines / period;
+        final int remainingLines = (int) (foldedLines % period);
+
+        final String note = foldedVaryingNumbers ? VARYING_NUMBERS_NOTE : "";
+        if (period == 1) {
+            output.accept(REPEATED_LINE_MARKER.formatted(repeats, note));
+        }
+        else {
+            output.accept(REPEATED_LINES_MARKER.formatted(period, repeats, note));
+        }
+
+        // an incomplete last repetition is the start of the cycle, these are the most recent lines
+        for (int back = remainingLines; back >= 1; --back) {
+            output.accept(history[(int) ((count - back) % MAX_PERIOD)]);
+        }
+
+        reset();
+    }
+
+    private void passHeldLines() {
+        while (!held.isEmpty()) {
+            output.accept(held.removeFirst());
+        }
+    }
+
+    /**
+     * Forgets the history, so no line is compared to lines that have been folded.
+     */
+    private void reset() {
+        period = 0;
+        foldedLines = 0;
+        foldedVaryingNumbers = false;
+        count = 0;
+        Arrays.fill(streaks, 0);
+        Arrays.fill(exactStreaks, 0);
+        Arrays.fill(history, null);
+        Arrays.fill(masked, null);
+    }
+}
@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps the most recent lines up to a fixed total length.
+ * <p>
+ * Each line accounts for its length plus one character for the separating newline. Older lines are evicted when the
+ * capacity would be exceeded. A single line longer than the capacity is cut down.
+ */
+class TailBuffer {
+
+    private final int capacity;
+    private final Deque<String> lines = new ArrayDeque<>();
+
+    private long length = 0;
+    private long evictedLines = 0;
+
+    TailBuffer(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    void add(final String line) {
+        final String kept = cut(line);
+
+        lines.addLast(kept);
+        length += kept.length() + 1;
+
+        while (length > capacity) {
+            final String evicted = lines.removeFirst();
+            length -= evicted.length() + 1;
+            evictedLines += 1;
+        }
+    }
+
+    /**
+     * Adds a line before all other lines if it still fits, used to fill the buffer starting from the last line.
+     *
+     * @param line the line preceding all lines in the buffer.
+     * @return false if the line does not fit anymore, the buffer is left unchanged then.
+     */
+    boolean addFirst(final String line) {
+        final String kept = cut(line);
+        if (!lines.isEmpty() && length + kept.length() + 1 > capacity) {
+            return false;
+        }
+
+        lines.addFirst(kept);
+        length += kept.length() + 1;
+        return true;
+    }
+
+    private String cut(final String line) {
+        return line.length() < capacity ? line : line.substring(0, capacity - 1);
+    }
+
+    /**
+     * Moves all lines of this buffer to the end of the other buffer.
+     *
+     * @param other the buffer the lines are moved to.
+     */
+    void moveTo(final TailBuffer other) {
+        for (final String line : lines) {
+            other.add(line);
+        }
+        clear();
+    }
+
+    void clear() {
+        lines.clear();
+        length = 0;
+        evictedLines = 0;
+    }
+
+    boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    int size() {
+        return lines.size();
+    }
+
+    /**
+     * Gets the number of lines that have been evicted since the buffer has been cleared.
+     *
+     * @return the number of evicted lines.
+     */
+    long evictedLines() {
+        return evictedLines;
+    }
+
+    void appendTo(final StringBuilder sb) {
+        boolean first = true;
+        for (final String line : lines) {
+            if (!first) {
+                sb.append('\n');
+            }
+            sb.append(line);
+            first = false;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the relevant part of a Dejagnu log into test cases while its lines are streamed past.
+ * <p>
+ * A test case consists of the lines up to and including its outcome ({@code PASS:}, {@code FAIL:}, {@code XPASS:}, or
+ * {@code XFAIL:}). A spawned program starts a new test case, output without an outcome before it is dropped. Only a
+ * small head and tail of the output of each test case are kept.
+ * <p>
+ * The output of only a limited number of test cases is kept, the outcomes of all further test cases are only counted.
+ * <p>
+ * Like the lines themselves, test cases are only kept tentatively until the next summary confirms them.
+ */
+class TestCaseSplitter {
+
+    static final int DEFAULT_WINDOW_LENGTH = 4_000;
+    static final int DEFAULT_MAX_TEST_CASES = 100;
+
+    private static final String PASS = "PASS: ";
+    private static final String FAIL = "FAIL: ";
+
+    private final int windowLength;
+    private final int maxTestCases;
+    private final boolean compactRepetitions;
+
+    private final List<TestCase> testCases = new ArrayList<>();
+    private final List<TestCase> pendingTestCases = new ArrayList<>();
+
+    private int totalCount = 0;
+    private int passedCount = 0;
+    private int pendingTotalCount = 0;
+    private int pendingPassedCount = 0;
+
+    private LogWindow current;
+    private String remainder = "";
+
+    /**
+     * A single test case.
+     *
+     * @param label      the name of the test case as reported in its outcome, without trailing parenthesised remarks.
+     * @param successful if the outcome is a (expected) pass or an expected failure.
+     * @param log        the output of the test case.
+     */
+    record TestCase(String label, boolean successful, String log) {
+    }
+
+    TestCaseSplitter() {
+        this(DEFAULT_WINDOW_LENGTH, DEFAULT_MAX_TEST_CASES, false);
+    }
+
+    /**
+     * Creates a splitter with a custom window size.
+     *
+     * @param windowLength       the maximum number of characters kept from the start and from the end of each test
+     *                           case.
+     * @param maxTestCases       the maximum number of test cases whose output is kept.
+     * @param compactRepetitions if repeated lines within a test case are folded.
+     */
+    TestCaseSplitter(final int windowLength, final int maxTestCases, final boolean compactRepetitions) {
+        this.windowLength = windowLength;
+        this.maxTestCases = maxTestCases;
+        this.compactRepetitions = compactRepetitions;
+        this.current = newWindow();
+    }
+
+    /**
+     * Processes the next line of the relevant part.
+     *
+     * @param markers the markers found in the line, see {@link DejagnuMarker}.
+     * @param line    the processed content of the line.
+     */
+    void accept(final int markers, final String line) {
+        if (DejagnuMarker.SPAWN.isIn(markers)) {
+            current = newWindow();
+        }
+        current.append(line);
+
+        if (DejagnuMarker.OUTCOME.isIn(markers)) {
+            finishTestCase(line);
+        }
+    }
+
+    /**
+     * Keeps all test cases and lines that have been read so far.
+     */
+    void commit() {
+        current.commit();
+        remainder = current.build();
+        testCases.addAll(pendingTestCases);
+        pendingTestCases.clear();
+        totalCount += pendingTotalCount;
+        passedCount += pendingPassedCount;
+        pendingTotalCount = 0;
+        pendingPassedCount = 0;
+    }
+
+    /**
+     * Gets the committed test cases whose output has been kept.
+     *
+     * @return the first test cases in the order of the log.
+     */
+    List<TestCase> testCases() {
+        return testCases;
+    }
+
+    /**
+     * Counts all committed test cases, including those whose output has not been kept.
+     *
+     * @return the number of committed test cases.
+     */
+    int totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Counts the successful committed test cases, including those whose output has not been kept.
+     *
+     * @return the number of committed test cases that are successful.
+     */
+    int passedCount() {
+        return passedCount;
+    }
+
+    /**
+     * Gets the committed output that does not belong to a test case because no outcome follows it.
+     *
+     * @return the output following the last test case.
+     */
+    String remainder() {
+        return remainder;
+    }
+
+    private void finishTestCase(final String line) {
+        final int pass = line.indexOf(PASS);
+        final int fail = line.indexOf(FAIL);
+        final boolean passed = pass >= 0 && (fail < 0 || pass < fail);
+        final int outcome = passed ? pass : fail;
+
+        // an expected failure counts as success, an unexpected pass as failure
+        final boolean unexpected = outcome > 0 && line.charAt(outcome - 1) == 'X';
+        final boolean successful = passed != unexpected;
+
+        String label = line.substring(outcome + PASS.length()).strip();
+        final int remark = label.indexOf(" (");
+        if (remark > 0) {
+            label = label.substring(0, remark);
+        }
+
+        ++pendingTotalCount;
+        if (successful) {
+            ++pendingPassedCount;
+        }
+        if (testCases.size() + pendingTestCases.size() < maxTestCases) {
+            current.commit();
+            pendingTestCases.add(new TestCase(label, successful, current.build()));
+        }
+        current = newWindow();
+    }
+
+    private LogWindow newWindow() {
+        return new LogWindow(windowLength, windowLength, compactRepetitions);
+    }
+}
@@ -5,69 +5,232 @@
 package de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileGlobs;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileIndex;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.ParallelTasks;
 import de.uni_passau.fim.se2.pipeline_helper.model.Checker;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
 /**
  * Checks that all given paths are readable files and are not empty.
+ * <p>
+ * A file is empty if it only contains whitespace. Files are only read until their first other character, and files of
+ * size zero are not read at all. The content does not have to be valid UTF-8 as long as the whitespace is.
+ * <p>
+ * Additionally, glob patterns can require a number of matching files, which are checked like the given paths. The
+ * attributes of each path are read once: those of matching files by the search for the glob pattern, those of the
+ * given paths by the check itself. Multiple glob patterns are expanded and multiple paths are checked concurrently.
  */
 public class FileExistsChecker implements Checker {
 
     private static final String CHECKER_NAME = "FileExistsChecker";
 
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final String UNEXPECTED_MATCHES = "Unexpected numbers of matching files:";
+
     private final List<Path> toCheck;
+    private final List<GlobRequirement> globs;
+    private final int parallelism;
 
     public FileExistsChecker(final List<Path> toCheck) {
+        this(toCheck, List.of(), 1);
+    }
+
+    /**
+     * Creates a checker that also checks the files matching glob patterns.
+     *
+     * @param toCheck     the files that have to exist.
+     * @param globs       the patterns with the required numbers of matching files.
+     * @param parallelism the maximum number of files checked concurrently.
+     */
+    public FileExistsChecker(final List<Path> toCheck, final List<GlobRequirement> globs, final int parallelism) {
         this.toCheck = toCheck;
+        this.globs = globs;
+        this.parallelism = parallelism;
     }
 
     @Override
     public CheckerResult check() throws CheckerException {
-        final Map<FileStatus, List<Path>> filesByStatus = new HashMap<>();
+        final Set<Path> files = new LinkedHashSet<>(toCheck);
+        final Map<Path, FileIndex.Entry> matchedFiles = new HashMap<>();
+        final List<String> unexpectedMatches = new ArrayList<>();
+        final List<List<FileIndex.Entry>> expanded = ParallelTasks.map(globs, parallelism, FileExistsChecker::expand);
+        for (int i = 0; i < globs.size(); ++i) {
+            final GlobRequirement glob = globs.get(i);
+            final List<FileIndex.Entry> matches = expanded.get(i);
+            if (!glob.isSatisfiedBy(matches.size())) {
+                unexpectedMatches.add(
+                    "%s: found %d, expected %s".formatted(glob.pattern(), matches.size(), glob.describeRange())
+                );
+            }
+            for (final FileIndex.Entry match : matches) {
+                files.add(match.path());
+                matchedFiles.putIfAbsent(match.path(), match);
+            }
+        }
+
+        final List<Path> paths = List.copyOf(files);
+        final List<FileStatus> statuses = ParallelTasks.map(
+            paths, parallelism, path -> getStatus(path, matchedFiles.get(path))
+        );
+
+        final Map<FileStatus, List<Path>> filesByStatus = new EnumMap<>(FileStatus.class);
         Arrays.stream(FileStatus.values()).forEach(status -> filesByStatus.put(status, new ArrayList<>()));
+        for (int i = 0; i < paths.size(); ++i) {
+            filesByStatus.get(statuses.get(i)).add(paths.get(i));
+        }
 
-        for (final Path p : toCheck) {
-            // 'Files.exists(path)' also returns true for directories, so we need this extra check here
-            if (!Files.exists(p) || Files.exists(p) && Files.isDirectory(p)) {
-                filesByStatus.get(FileStatus.MISSING).add(p);
-                continue;
-            }
+        final boolean successful = filesByStatus.get(FileStatus.VALID).size() == paths.size()
+            && unexpectedMatches.isEmpty();
+
+        if (!successful) {
+            final String message = buildFeedbackString(filesByStatus, unexpectedMatches);
+            return new CheckerResult(CHECKER_NAME, false, message);
+        }
+        else {
+            return new CheckerResult(CHECKER_NAME, true);
+        }
+    }
+
+    private static List<FileIndex.Entry> expand(final GlobRequirement glob) throws CheckerException {
+        try {
+            return FileGlobs.expandWithAttributes(glob.pattern());
+        }
+        catch (IOException e) {
+            throw new CheckerException("Cannot search for files matching " + glob.pattern(), e);
+        }
+    }
+
+    /**
+     * Determines the status of a file.
+     *
+     * @param p     the file to check.
+     * @param match the regular file found for a glob pattern, null if the attributes of the file are unknown.
+     */
+    private static FileStatus getStatus(final Path p, final FileIndex.Entry match) {
+        if (match != null) {
+            return getStatus(p, match.size());
+        }
+
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(p, BasicFileAttributes.class);
+        }
+        catch (IOException e) {
+            return FileStatus.MISSING;
+        }
+
+        // directories exist, but are no files
+        if (attrs.isDirectory()) {
+            return FileStatus.MISSING;
+        }
+
+        if (!attrs.isRegularFile()) {
+            return FileStatus.VALID;
+        }
+        return getStatus(p, attrs.size());
+    }
+
+    private static FileStatus getStatus(final Path p, final long size) {
+        try {
+            return isFileEmpty(p, size) ? FileStatus.EMPTY : FileStatus.VALID;
+        }
+        catch (IOException e) {
+            return FileStatus.NON_READABLE;
+        }
+    }
+
+    private static boolean isFileEmpty(final Path p, final long size) throws IOException {
+        if (size == 0) {
+            return true;
+        }
+
+        try (InputStream input = Files.newInputStream(p)) {
+            return isBlank(input);
+        }
+    }
 
-            try {
-                if (Files.isRegularFile(p) && isFileEmpty(p)) {
-                    filesByStatus.get(FileStatus.EMPTY).add(p);
+    /**
+     * Checks if the UTF-8 encoded content only consists of whitespace, see {@link Character#isWhitespace(int)}.
+     *
+     * @param input the content, it is read until the first character that is no whitespace.
+     * @return true if the content only contains whitespace, false if it contains other characters or malformed bytes.
+     * @throws IOException if the content cannot be read.
+     */
+    private static boolean isBlank(final InputStream input) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int codePoint = 0;
+        int missingBytes = 0;
+
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; ++i) {
+                final int b = buffer[i] & 0xff;
+                if (missingBytes > 0) {
+                    if ((b & 0xc0) != 0x80) {
+                        return false;
+                    }
+                    codePoint = (codePoint << 6) | (b & 0x3f);
+                    missingBytes -= 1;
+                    if (missingBytes == 0 && !isMultiByteWhitespace(codePoint)) {
+                        return false;
+                    }
+                }
+                else if (b < 0x80) {
+                    if (!Character.isWhitespace(b)) {
+                        return false;
+                    }
                 }
                 else {
-                    filesByStatus.get(FileStatus.VALID).add(p);
+                    missingBytes = continuationBytes(b);
+                    if (missingBytes < 0) {
+                        return false;
+                    }
+                    // the lead byte keeps 5, 4, or 3 bits of the code point for 1, 2, or 3 continuation bytes
+                    codePoint = b & (0x3f >> missingBytes);
                 }
             }
-            catch (IOException e) {
-                filesByStatus.get(FileStatus.NON_READABLE).add(p);
-            }
         }
 
-        final boolean successful = filesByStatus.get(FileStatus.VALID).equals(toCheck);
+        return missingBytes == 0;
+    }
 
-        if (!successful) {
-            final String message = buildFeedbackString(filesByStatus);
-            return new CheckerResult(CHECKER_NAME, false, message);
+    /**
+     * Returns the number of bytes following the first byte of a UTF-8 encoded code point.
+     *
+     * @param leadByte the first byte of a code point that is not ASCII.
+     * @return the number of continuation bytes, or -1 if no code point starts with this byte.
+     */
+    private static int continuationBytes(final int leadByte) {
+        if (leadByte >= 0xc2 && leadByte < 0xe0) {
+            return 1;
         }
-        else {
-            return new CheckerResult(CHECKER_NAME, true);
+        else if (leadByte >= 0xe0 && leadByte < 0xf0) {
+            return 2;
+        }
+        else if (leadByte >= 0xf0 && leadByte < 0xf5) {
+            return 3;
         }
+        return -1;
     }
 
-    private static boolean isFileEmpty(final Path p) throws IOException {
-        return Files.readString(p).isBlank();
+    private static boolean isMultiByteWhitespace(final int codePoint) {
+        // overlong encodings of ASCII whitespace are malformed
+        return codePoint >= 0x80 && Character.isWhitespace(codePoint);
     }
 
-    private String buildFeedbackString(final Map<FileStatus, List<Path>> filesByStatus) {
+    private String buildFeedbackString(
+        final Map<FileStatus, List<Path>> filesByStatus, final List<String> unexpectedMatches
+    ) {
         final StringBuilder sb = new StringBuilder();
 
         for (FileStatus status : FileStatus.values()) {
@@ -91,6 +254,13 @@ public class FileExistsChecker implements Checker {
             }
         }
 
+        if (!unexpectedMatches.isEmpty()) {
+            if (!sb.isEmpty()) {
+                sb.append("\n\n");
+            }
+            sb.append(UNEXPECTED_MATCHES).append("\n").append(String.join("\n", unexpectedMatches));
+        }
+
         return sb.toString();
     }
 }
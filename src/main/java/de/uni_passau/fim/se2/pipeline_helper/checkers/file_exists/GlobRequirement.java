@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Requires a number of files to match a glob pattern.
+ *
+ * @param pattern    a glob pattern, see {@link de.uni_passau.fim.se2.pipeline_helper.helpers.FileGlobs}.
+ * @param minMatches the minimum number of matching files.
+ * @param maxMatches the maximum number of matching files.
+ */
+public record GlobRequirement(String pattern, int minMatches, int maxMatches) {
+
+    private static final Pattern COUNT = Pattern.compile("=(?:(\\d+)|(\\d*)\\.\\.(\\d*))$");
+
+    public GlobRequirement {
+        if (minMatches < 0 || maxMatches < minMatches) {
+            throw new IllegalArgumentException(
+                String.format("Invalid number of matches %d..%d for '%s'.", minMatches, maxMatches, pattern)
+            );
+        }
+    }
+
+    /**
+     * Parses a requirement of the form {@code pattern=min..max}.
+     * <p>
+     * Either bound of the range may be left out, e.g. {@code src/**}{@code /*Test.java=2..}. A single number requires
+     * exactly this many matches. Without a range, at least one file has to match.
+     *
+     * @param requirement the pattern, optionally followed by a range.
+     * @return the parsed requirement.
+     * @throws IllegalArgumentException if the minimum is larger than the maximum.
+     */
+    public static GlobRequirement parse(final String requirement) throws IllegalArgumentException {
+        final Matcher count = COUNT.matcher(requirement);
+        if (!count.find()) {
+            return new GlobRequirement(requirement, 1, Integer.MAX_VALUE);
+        }
+
+        final String pattern = requirement.substring(0, count.start());
+        if (count.group(1) != null) {
+            final int matches = Integer.parseInt(count.group(1));
+            return new GlobRequirement(pattern, matches, matches);
+        }
+        final int minMatches = count.group(2).isEmpty() ? 0 : Integer.parseInt(count.group(2));
+        final int maxMatches = count.group(3).isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(count.group(3));
+        return new GlobRequirement(pattern, minMatches, maxMatches);
+    }
+
+    /**
+     * Checks if the number of matching files is within the range.
+     *
+     * @param matches the number of matching files.
+     * @return true if the requirement is fulfilled.
+     */
+    public boolean isSatisfiedBy(final int matches) {
+        return matches >= minMatches && matches <= maxMatches;
+    }
+
+    /**
+     * Describes the expected number of matches.
+     *
+     * @return e.g. "at least 1".
+     */
+    String describeRange() {
+        if (minMatches == maxMatches) {
+            return "exactly " + minMatches;
+        }
+        else if (maxMatches == Integer.MAX_VALUE) {
+            return "at least " + minMatches;
+        }
+        else if (minMatches == 0) {
+            return "at most " + maxMatches;
+        }
+        return "between %d and %d".formatted(minMatches, maxMatches);
+    }
+}
@@ -5,18 +5,54 @@
 package de.uni_passau.fim.se2.pipeline_helper.checkers.line_length;
 
 import java.nio.file.Path;
-import java.util.SortedMap;
 
-public record FileLineLengthViolations(Path file, SortedMap<Integer, Integer> violationsWithLength) {
+public record FileLineLengthViolations(Path file, LineViolations violations) {
+
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String INDENT = "    -> ";
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        String lineOrLines = violationsWithLength.size() > 1 ? "lines" : "line";
-        sb.append(String.format("%s, on %d %s:%n", file.toString(), violationsWithLength.size(), lineOrLines));
-        violationsWithLength.forEach((index, length) -> {
-            sb.append(String.format("    -> line %d, length %d%n", index, length));
-        });
+        appendTo(sb, false);
         return sb.toString();
     }
+
+    /**
+     * Lists the violations.
+     *
+     * @param sb                    the text the list is appended to.
+     * @param groupConsecutiveLines if violations in consecutive lines are listed as a single range with the maximum
+     *                              length of these lines.
+     */
+    public void appendTo(final StringBuilder sb, final boolean groupConsecutiveLines) {
+        sb.append(file).append(", on ").append(violations.count()).append(violations.count() > 1 ? " lines" : " line")
+            .append(':').append(NEWLINE);
+
+        int i = 0;
+        while (i < violations.size()) {
+            int last = i;
+            int maxLength = violations.length(i);
+            while (groupConsecutiveLines && last + 1 < violations.size()
+                && violations.line(last + 1) == violations.line(last) + 1) {
+                last += 1;
+                maxLength = Math.max(maxLength, violations.length(last));
+            }
+
+            if (last == i) {
+                sb.append(INDENT).append("line ").append(violations.line(i)).append(", length ").append(maxLength);
+            }
+            else {
+                sb.append(INDENT).append("lines ").append(violations.line(i)).append('-').append(violations.line(last))
+                    .append(", max length ").append(maxLength);
+            }
+            sb.append(NEWLINE);
+            i = last + 1;
+        }
+
+        final int omitted = violations.count() - violations.size();
+        if (omitted > 0) {
+            sb.append(INDENT).append("and ").append(omitted).append(" more").append(NEWLINE);
+        }
+    }
 }
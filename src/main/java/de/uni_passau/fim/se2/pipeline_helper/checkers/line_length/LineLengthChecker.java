@@ -5,47 +5,95 @@
 package de.uni_passau.fim.se2.pipeline_helper.checkers.line_length;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Stream;
 
+import de.uni_passau.fim.se2.pipeline_helper.helpers.ParallelTasks;
 import de.uni_passau.fim.se2.pipeline_helper.model.Checker;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
 /**
  * Checks that all lines in all files have a maximum length.
+ * <p>
+ * The files are expected to be UTF-8 encoded, the length of a line is the number of code points in it. Files with
+ * malformed byte sequences are checked as well, see {@link LineLengthScanner}.
+ * <p>
+ * The files can be checked concurrently. The violations are always reported in the lexicographic order of the paths.
+ * <p>
+ * The number of listed violations can be limited per file and in total. Violations beyond these limits are only
+ * counted, so huge generated files do not produce huge messages.
  */
 public class LineLengthChecker implements Checker {
 
     private static final String CHECKER_NAME = "LineLengthChecker";
 
-    private final Stream<Path> files;
+    private final List<Path> files;
     private final int maxLength;
     private final Path directory;
+    private final Options options;
+
+    /**
+     * The scanners reuse their buffers, so each thread checking files needs its own.
+     */
+    private final ThreadLocal<LineLengthScanner> scanners;
+
+    /**
+     * Optional ways of checking the files.
+     *
+     * @param parallelism           the maximum number of files checked concurrently.
+     * @param maxViolationsPerFile  the maximum number of violations listed per file, further ones are only counted.
+     * @param maxViolations         the maximum number of violations listed for all files together, further ones are
+     *                              only counted.
+     * @param groupConsecutiveLines if violations in consecutive lines are listed as a single range.
+     */
+    public record Options(
+        int parallelism, int maxViolationsPerFile, int maxViolations, boolean groupConsecutiveLines
+    ) {
+
+        /**
+         * Checks the files one after another and lists all violations line by line.
+         */
+        public static final Options DEFAULT = new Options(1, Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+    }
+
+    public LineLengthChecker(final Path directory, final List<Path> files, final int maxLength) {
+        this(directory, files, maxLength, Options.DEFAULT);
+    }
 
-    public LineLengthChecker(final Path directory, final Stream<Path> files, final int maxLength) {
+    public LineLengthChecker(
+        final Path directory, final List<Path> files, final int maxLength, final Options options
+    ) {
         this.files = files;
         this.maxLength = maxLength;
         this.directory = directory;
+        this.options = options;
+        this.scanners = ThreadLocal.withInitial(() -> new LineLengthScanner(maxLength, options.maxViolationsPerFile()));
     }
 
     @Override
     public CheckerResult check() throws CheckerException {
+        final List<Path> sortedFiles = files.stream().sorted().toList();
+
+        final List<LineViolations> allViolations;
+        try {
+            allViolations = ParallelTasks.map(sortedFiles, options.parallelism(), this::getAllViolationsWithLength);
+        }
+        catch (CheckerException e) {
+            return new CheckerResult(CHECKER_NAME, false, e.getMessage());
+        }
+
+        // the global limit is applied in path order, so the listed violations do not depend on the thread scheduling
+        int remainingViolations = options.maxViolations();
         final List<FileLineLengthViolations> violations = new ArrayList<>();
-        for (Iterator<Path> it = files.iterator(); it.hasNext();) {
-            final Path p = it.next();
-            final SortedMap<Integer, Integer> linesWithViolations;
-            try {
-                linesWithViolations = getAllViolationsWithLength(p);
-            }
-            catch (CheckerException e) {
-                return new CheckerResult(CHECKER_NAME, false, e.getMessage());
-            }
+        for (int i = 0; i < sortedFiles.size(); ++i) {
+            final LineViolations linesWithViolations = allViolations.get(i);
             if (!linesWithViolations.isEmpty()) {
-                violations.add(new FileLineLengthViolations(directory.relativize(p), linesWithViolations));
+                linesWithViolations.truncate(remainingViolations);
+                remainingViolations -= linesWithViolations.size();
+                violations.add(
+                    new FileLineLengthViolations(directory.relativize(sortedFiles.get(i)), linesWithViolations)
+                );
             }
         }
 
@@ -55,35 +103,17 @@ public class LineLengthChecker implements Checker {
 
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("Found files with lines longer than %d characters:%n", maxLength));
-        violations.forEach(sb::append);
+        violations.forEach(fileViolations -> fileViolations.appendTo(sb, options.groupConsecutiveLines()));
 
         return new CheckerResult(CHECKER_NAME, false, sb.toString().trim());
     }
 
-    private SortedMap<Integer, Integer> getAllViolationsWithLength(final Path path) throws CheckerException {
-        try (Stream<String> lines = Files.lines(path)) {
-            return getAllViolationWithLength(lines);
+    private LineViolations getAllViolationsWithLength(final Path path) throws CheckerException {
+        try {
+            return scanners.get().scan(path);
         }
-        catch (IOException | UncheckedIOException e) {
+        catch (IOException e) {
             throw new CheckerException("Cannot read file " + path, e);
         }
     }
-
-    private SortedMap<Integer, Integer> getAllViolationWithLength(final Stream<String> fileLines) {
-        final SortedMap<Integer, Integer> violationsWithLength = new TreeMap<>();
-        final Iterator<String> lines = fileLines.sequential().iterator();
-        int lineIdx = 1;
-
-        while (lines.hasNext()) {
-            final String line = lines.next();
-
-            if (line.length() > maxLength) {
-                violationsWithLength.put(lineIdx, line.length());
-            }
-
-            lineIdx += 1;
-        }
-
-        return violationsWithLength;
-    }
 }
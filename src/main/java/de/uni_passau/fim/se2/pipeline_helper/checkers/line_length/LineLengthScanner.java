@@ -0,0 +1,131 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.line_length;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures the lengths of the lines of UTF-8 encoded files without decoding them.
+ * <p>
+ * The length of a line is the number of code points in it, counted from the raw bytes. Lines end at {@code \n},
+ * {@code \r}, or {@code \r\n}. Malformed byte sequences do not abort the scan: each byte that does not belong to a
+ * valid sequence counts as one character, like a replacement character would after decoding.
+ * <p>
+ * The file is read in chunks into a buffer that is reused for all files scanned by the same instance, so instances
+ * must not be shared between threads.
+ */
+class LineLengthScanner {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final int maxLength;
+    private final int maxStoredViolations;
+
+    /**
+     * Creates a scanner.
+     *
+     * @param maxLength           the maximum number of code points per line.
+     * @param maxStoredViolations the maximum number of violations stored per file, further ones are only counted.
+     */
+    LineLengthScanner(final int maxLength, final int maxStoredViolations) {
+        this.maxLength = maxLength;
+        this.maxStoredViolations = maxStoredViolations;
+    }
+
+    /**
+     * Finds all lines of a file that are too long.
+     *
+     * @param file a UTF-8 encoded file.
+     * @return the lines that are too long.
+     * @throws IOException if the file cannot be read.
+     */
+    LineViolations scan(final Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return scan(input);
+        }
+    }
+
+    /**
+     * Finds all lines that are too long.
+     *
+     * @param input UTF-8 encoded text.
+     * @return the lines that are too long.
+     * @throws IOException if the input cannot be read.
+     */
+    LineViolations scan(final InputStream input) throws IOException {
+        final LineViolations violations = new LineViolations(maxStoredViolations);
+
+        int lineIdx = 1;
+        int length = 0;
+        int pendingContinuationBytes = 0;
+        boolean afterCarriageReturn = false;
+
+        int read;
+        while ((read = input.read(buffer)) >= 0) {
+            for (int i = 0; i < read; ++i) {
+                final byte b = buffer[i];
+
+                if (b == '\n' || b == '\r') {
+                    // the line feed of \r\n does not end another line
+                    if (b == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        continue;
+                    }
+                    if (length > maxLength) {
+                        violations.add(lineIdx, length);
+                    }
+
+                    lineIdx += 1;
+                    length = 0;
+                    pendingContinuationBytes = 0;
+                    afterCarriageReturn = b == '\r';
+                    continue;
+                }
+
+                afterCarriageReturn = false;
+                if (isContinuationByte(b) && pendingContinuationBytes > 0) {
+                    pendingContinuationBytes -= 1;
+                }
+                else {
+                    length += 1;
+                    pendingContinuationBytes = continuationBytes(b);
+                }
+            }
+        }
+
+        if (length > maxLength) {
+            violations.add(lineIdx, length);
+        }
+
+        return violations;
+    }
+
+    private static boolean isContinuationByte(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Gets the number of continuation bytes following the first byte of a code point.
+     *
+     * @param b the first byte of a code point.
+     * @return the number of continuation bytes, zero for ASCII characters and invalid first bytes.
+     */
+    private static int continuationBytes(final byte b) {
+        if ((b & 0xE0) == 0xC0) {
+            return 1;
+        }
+        else if ((b & 0xF0) == 0xE0) {
+            return 2;
+        }
+        else if ((b & 0xF8) == 0xF0) {
+            return 3;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,108 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.line_length;
+
+import java.util.Arrays;
+
+/**
+ * The lines of a file that are too long, in ascending order.
+ * <p>
+ * Line numbers and lengths are stored as pairs in a single primitive array. Once a limit is reached, further
+ * violations are only counted.
+ */
+public final class LineViolations {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int limit;
+
+    /**
+     * The line number of the {@code i}-th stored violation is at {@code 2 * i}, its length at {@code 2 * i + 1}.
+     */
+    private int[] entries = new int[0];
+    private int size = 0;
+    private int count = 0;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param limit the maximum number of stored violations.
+     */
+    LineViolations(final int limit) {
+        this.limit = limit;
+    }
+
+    void add(final int line, final int length) {
+        count += 1;
+        if (size >= limit) {
+            return;
+        }
+
+        if (2 * size == entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(2 * INITIAL_CAPACITY, 2 * entries.length));
+        }
+        entries[2 * size] = line;
+        entries[2 * size + 1] = length;
+        size += 1;
+    }
+
+    /**
+     * Drops stored violations beyond a limit, they are still counted.
+     *
+     * @param maxSize the maximum number of stored violations to keep.
+     */
+    void truncate(final int maxSize) {
+        size = Math.min(size, maxSize);
+    }
+
+    /**
+     * Gets the number of all violations.
+     *
+     * @return the number of stored and dropped violations.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Gets the number of stored violations.
+     *
+     * @return the number of violations that can be accessed.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Gets the line number of a stored violation.
+     *
+     * @param index the index of the violation, less than {@link #size()}.
+     * @return the line number starting at one.
+     */
+    public int line(final int index) {
+        return entries[2 * checkIndex(index)];
+    }
+
+    /**
+     * Gets the length of the line of a stored violation.
+     *
+     * @param index the index of the violation, less than {@link #size()}.
+     * @return the length of the line.
+     */
+    public int length(final int index) {
+        return entries[2 * checkIndex(index) + 1];
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.main_method;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The parts of a class file that determine its main methods, read without loading the class.
+ *
+ * @param name        the internal name of the class, e.g. {@code java/lang/Object}.
+ * @param accessFlags the access flags of the class.
+ * @param superName   the internal name of the superclass, null for {@code java/lang/Object} and modules.
+ * @param interfaces  the internal names of the directly implemented interfaces.
+ * @param methods     the methods declared by the class, including constructors.
+ */
+record ClassFile(String name, int accessFlags, String superName, List<String> interfaces, List<Method> methods) {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+
+    /**
+     * A method declared in a class file.
+     *
+     * @param name        the name of the method, {@code <init>} for constructors.
+     * @param descriptor  the parameter and return types, e.g. {@code ([Ljava/lang/String;)V}.
+     * @param accessFlags the access flags of the method.
+     */
+    record Method(String name, String descriptor, int accessFlags) {
+
+        boolean is(final int accessFlag) {
+            return (accessFlags & accessFlag) != 0;
+        }
+    }
+
+    boolean is(final int accessFlag) {
+        return (accessFlags & accessFlag) != 0;
+    }
+
+    /**
+     * Reads the methods of a class file whose header has been read already.
+     *
+     * @param reader the reader positioned after the header.
+     * @return the parsed class.
+     * @throws IOException if the content is no valid class file.
+     */
+    static ClassFile read(final ClassFileReader reader) throws IOException {
+        return new ClassFile(
+            reader.name(), reader.accessFlags(), reader.superName(), reader.interfaces(), reader.readMethods()
+        );
+    }
+}
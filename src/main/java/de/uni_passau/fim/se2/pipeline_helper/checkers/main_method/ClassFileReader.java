@@ -0,0 +1,247 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.main_method;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a class file in the format described in chapter 4 of the Java Virtual Machine Specification.
+ * <p>
+ * The constant pool and the header up to the implemented interfaces are read on creation, the methods only on
+ * request. Strings of the constant pool are only decoded when they are referenced.
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+
+    /**
+     * The number of bytes following the tag of the constant pool entries that are skipped, indexed by tag.
+     */
+    private static final int[] CONSTANT_SIZES = { -1, -1, -1, 4, 4, 8, 8, -1, 2, 4, 4, 4, 4, -1, -1, 3, 2, 4, 4, 2, 2 };
+
+    private final byte[] classFile;
+    private final ByteBuffer input;
+
+    /**
+     * The positions of the lengths of the strings in the constant pool, zero for other constants.
+     */
+    private final int[] utf8Positions;
+    private final int[] classNames;
+
+    private final int accessFlags;
+    private final String name;
+    private final String superName;
+    private final List<String> interfaces;
+
+    /**
+     * Reads the constant pool and header of a class file.
+     *
+     * @param classFile the content of the class file.
+     * @throws IOException if the content is no valid class file.
+     */
+    ClassFileReader(final byte[] classFile) throws IOException {
+        this.classFile = classFile;
+        this.input = ByteBuffer.wrap(classFile);
+
+        try {
+            if (input.getInt() != MAGIC) {
+                throw new IOException("Not a class file.");
+            }
+            skip(4); // minor and major version
+
+            final int constantCount = readUnsignedShort();
+            utf8Positions = new int[constantCount];
+            classNames = new int[constantCount];
+            readConstantPool();
+
+            accessFlags = readUnsignedShort();
+            name = className(readUnsignedShort());
+            final int superClass = readUnsignedShort();
+            superName = superClass == 0 ? null : className(superClass);
+
+            final int interfaceCount = readUnsignedShort();
+            interfaces = new ArrayList<>(interfaceCount);
+            for (int i = 0; i < interfaceCount; ++i) {
+                interfaces.add(className(readUnsignedShort()));
+            }
+        }
+        catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated class file.", e);
+        }
+    }
+
+    /**
+     * Reads the class file of a class from a directory or the runtime of the pipeline helper.
+     *
+     * @param classpath the directory that is searched first.
+     * @param name      the internal name of the class, e.g. {@code java/lang/Object}.
+     * @return a reader positioned after the header, or nothing if there is no class file declaring a class of this
+     *         name. Like a class loader, class files that are not stored under the name of their class are ignored.
+     * @throws IOException if the class file cannot be read or is no valid class file.
+     */
+    static Optional<ClassFileReader> find(final Path classpath, final String name) throws IOException {
+        final String fileName = name + ".class";
+        final byte[] classFile;
+        final Path file = classpath.resolve(fileName);
+        if (Files.isRegularFile(file)) {
+            classFile = Files.readAllBytes(file);
+        }
+        else {
+            try (InputStream input = ClassLoader.getSystemResourceAsStream(fileName)) {
+                if (input == null) {
+                    return Optional.empty();
+                }
+                classFile = input.readAllBytes();
+            }
+        }
+
+        try {
+            final ClassFileReader reader = new ClassFileReader(classFile);
+            return reader.name().equals(name) ? Optional.of(reader) : Optional.empty();
+        }
+        catch (IOException e) {
+            throw new IOException("Invalid class file " + fileName, e);
+        }
+    }
+
+    private void readConstantPool() throws IOException {
+        // the indices start at one, long and double constants take up two of them
+        for (int i = 1; i < utf8Positions.length; ++i) {
+            final int tag = Byte.toUnsignedInt(input.get());
+            if (tag == CONSTANT_UTF8) {
+                utf8Positions[i] = input.position();
+                skip(readUnsignedShort());
+            }
+            else if (tag == CONSTANT_CLASS) {
+                classNames[i] = readUnsignedShort();
+            }
+            else if (tag < CONSTANT_SIZES.length && CONSTANT_SIZES[tag] > 0) {
+                skip(CONSTANT_SIZES[tag]);
+                if (tag == CONSTANT_LONG || tag == CONSTANT_DOUBLE) {
+                    ++i;
+                }
+            }
+            else {
+                throw new IOException("Invalid constant pool tag " + tag + ".");
+            }
+        }
+    }
+
+    int accessFlags() {
+        return accessFlags;
+    }
+
+    String name() {
+        return name;
+    }
+
+    String superName() {
+        return superName;
+    }
+
+    List<String> interfaces() {
+        return interfaces;
+    }
+
+    /**
+     * Checks if the constant pool contains a string without decoding the strings of the pool.
+     *
+     * @param ascii a string only consisting of ASCII characters, which are encoded identically in class files.
+     * @return true if the string is contained.
+     */
+    boolean containsUtf8(final String ascii) {
+        final byte[] expected = ascii.getBytes(StandardCharsets.US_ASCII);
+        for (final int position : utf8Positions) {
+            final int start = position + 2;
+            if (position > 0 && Short.toUnsignedInt(input.getShort(position)) == expected.length
+                && Arrays.equals(classFile, start, start + expected.length, expected, 0, expected.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the methods following the header, skipping the fields.
+     *
+     * @return the methods declared by the class, including constructors.
+     * @throws IOException if the methods are no valid part of a class file.
+     */
+    List<ClassFile.Method> readMethods() throws IOException {
+        try {
+            final int fieldCount = readUnsignedShort();
+            for (int i = 0; i < fieldCount; ++i) {
+                skip(6); // access flags, name, descriptor
+                skipAttributes();
+            }
+
+            final int methodCount = readUnsignedShort();
+            final List<ClassFile.Method> methods = new ArrayList<>(methodCount);
+            for (int i = 0; i < methodCount; ++i) {
+                final int methodAccessFlags = readUnsignedShort();
+                final String methodName = utf8(readUnsignedShort());
+                final String descriptor = utf8(readUnsignedShort());
+                methods.add(new ClassFile.Method(methodName, descriptor, methodAccessFlags));
+                skipAttributes();
+            }
+            return methods;
+        }
+        catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated class file.", e);
+        }
+    }
+
+    private void skipAttributes() {
+        final int attributeCount = readUnsignedShort();
+        for (int i = 0; i < attributeCount; ++i) {
+            skip(2); // name
+            final long length = Integer.toUnsignedLong(input.getInt());
+            skip((int) Math.min(length, Integer.MAX_VALUE));
+        }
+    }
+
+    private int readUnsignedShort() {
+        return Short.toUnsignedInt(input.getShort());
+    }
+
+    private void skip(final int bytes) {
+        input.position(input.position() + bytes);
+    }
+
+    private String utf8(final int index) throws IOException {
+        if (index <= 0 || index >= utf8Positions.length || utf8Positions[index] == 0) {
+            throw new IOException("Invalid string constant " + index + ".");
+        }
+
+        // the strings are stored in the modified UTF-8 encoding of DataInput, including their length
+        final int position = utf8Positions[index];
+        final int length = Short.toUnsignedInt(input.getShort(position));
+        return new DataInputStream(new ByteArrayInputStream(classFile, position, length + 2)).readUTF();
+    }
+
+    private String className(final int index) throws IOException {
+        if (index <= 0 || index >= classNames.length || classNames[index] == 0) {
+            throw new IOException("Invalid class constant " + index + ".");
+        }
+        return utf8(classNames[index]);
+    }
+}
@@ -0,0 +1,240 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.main_method;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds main methods by parsing class files instead of loading the classes.
+ * <p>
+ * The classes are looked up in the classpath first and in the runtime of the pipeline helper afterwards. Each class is
+ * parsed once, its inherited methods are determined by the same rules as {@link Class#getMethods()}. Supertypes that
+ * can be found in neither place are assumed to declare no main methods.
+ * <p>
+ * Classes can be analysed by multiple threads concurrently. A class requested by several threads at the same time may
+ * be parsed more than once, but only one of the results is kept.
+ */
+public final class ClassHierarchy {
+
+    private static final String MAIN_METHOD_NAME = "main";
+    private static final Set<String> MAIN_METHOD_DESCRIPTORS = Set.of("()V", "([Ljava/lang/String;)V");
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String NO_ARGS_DESCRIPTOR = "()V";
+
+    private final Path classpath;
+    private final Map<String, Optional<ClassFile>> classes = new ConcurrentHashMap<>();
+    private final Map<String, List<DeclaredMethod>> publicMethods = new ConcurrentHashMap<>();
+
+    private record DeclaredMethod(ClassFile owner, ClassFile.Method method) {
+    }
+
+    /**
+     * Creates an empty hierarchy, the classes are parsed when they are needed.
+     *
+     * @param classpath the directory containing the class files.
+     */
+    public ClassHierarchy(final Path classpath) {
+        this.classpath = classpath;
+    }
+
+    /**
+     * Counts the main methods a class declares or inherits.
+     *
+     * @param className the binary name of the class, e.g. {@code com.example.Main}.
+     * @return the number of main methods, or nothing if there is no class file declaring a class of this name.
+     * @throws IOException if a class file cannot be read.
+     */
+    public OptionalInt countMainMethods(final String className) throws IOException {
+        final Optional<ClassFile> cls = find(className.replace('.', '/'));
+        if (cls.isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        int count = 0;
+        for (final DeclaredMethod method : getMethodsWithInherited(cls.get())) {
+            if (isMainMethod(cls.get(), method.method())) {
+                ++count;
+            }
+        }
+        return OptionalInt.of(count);
+    }
+
+    private Optional<ClassFile> find(final String name) throws IOException {
+        final Optional<ClassFile> known = classes.get(name);
+        if (known != null) {
+            return known;
+        }
+
+        final Optional<ClassFileReader> reader = ClassFileReader.find(classpath, name);
+        Optional<ClassFile> cls = Optional.empty();
+        if (reader.isPresent()) {
+            cls = Optional.of(ClassFile.read(reader.get()));
+        }
+        final Optional<ClassFile> concurrentlyFound = classes.putIfAbsent(name, cls);
+        return concurrentlyFound != null ? concurrentlyFound : cls;
+    }
+
+    /**
+     * Collects the candidates for main methods in the same way as the reflection-based search.
+     */
+    private List<DeclaredMethod> getMethodsWithInherited(final ClassFile cls) throws IOException {
+        final List<DeclaredMethod> methods = new ArrayList<>();
+        if (cls.is(ClassFile.ACC_INTERFACE)) {
+            // Only public static methods in interfaces can be valid main methods.
+            for (final DeclaredMethod method : getPublicMethods(cls)) {
+                if (method.method().is(ClassFile.ACC_STATIC)) {
+                    methods.add(method);
+                }
+            }
+        }
+        else {
+            methods.addAll(getPublicMethods(cls));
+            Optional<ClassFile> current = Optional.of(cls);
+            while (current.isPresent()) {
+                for (final ClassFile.Method method : current.get().methods()) {
+                    if (isMainMethodSignature(method) && !method.is(ClassFile.ACC_PUBLIC)) {
+                        methods.add(new DeclaredMethod(current.get(), method));
+                    }
+                }
+                current = findSuperclass(current.get());
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Determines the public methods that are members of a type like {@link Class#getMethods()}, restricted to methods
+     * with the signature of a main method.
+     */
+    private List<DeclaredMethod> getPublicMethods(final ClassFile type) throws IOException {
+        final List<DeclaredMethod> known = publicMethods.get(type.name());
+        if (known != null) {
+            return known;
+        }
+
+        final List<DeclaredMethod> methods = new ArrayList<>();
+        for (final ClassFile.Method method : type.methods()) {
+            if (isMainMethodSignature(method) && method.is(ClassFile.ACC_PUBLIC)) {
+                merge(methods, new DeclaredMethod(type, method));
+            }
+        }
+        mergeInheritedPublicMethods(methods, type);
+
+        final List<DeclaredMethod> concurrentlyMerged = publicMethods.putIfAbsent(type.name(), methods);
+        return concurrentlyMerged != null ? concurrentlyMerged : methods;
+    }
+
+    private void mergeInheritedPublicMethods(final List<DeclaredMethod> methods, final ClassFile type)
+        throws IOException {
+        final Optional<ClassFile> superclass = findSuperclass(type);
+        if (superclass.isPresent()) {
+            for (final DeclaredMethod method : getPublicMethods(superclass.get())) {
+                merge(methods, method);
+            }
+        }
+        for (final String interfaceName : type.interfaces()) {
+            final Optional<ClassFile> implemented = find(interfaceName);
+            if (implemented.isPresent()) {
+                for (final DeclaredMethod method : getPublicMethods(implemented.get())) {
+                    // static interface methods are not inherited
+                    if (!method.method().is(ClassFile.ACC_STATIC)) {
+                        merge(methods, method);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a method unless a method with the same signature overrides it, and removes the methods it overrides.
+     */
+    private void merge(final List<DeclaredMethod> methods, final DeclaredMethod method) throws IOException {
+        final ClassFile owner = method.owner();
+        final Iterator<DeclaredMethod> iterator = methods.iterator();
+        while (iterator.hasNext()) {
+            final DeclaredMethod existing = iterator.next();
+            if (!existing.method().descriptor().equals(method.method().descriptor())) {
+                continue;
+            }
+
+            final ClassFile existingOwner = existing.owner();
+            if (owner.is(ClassFile.ACC_INTERFACE) == existingOwner.is(ClassFile.ACC_INTERFACE)) {
+                if (isSubtype(existingOwner, owner.name())) {
+                    return;
+                }
+                else if (isSubtype(owner, existingOwner.name())) {
+                    iterator.remove();
+                }
+            }
+            else if (owner.is(ClassFile.ACC_INTERFACE)) {
+                // methods declared by classes win over those declared by interfaces
+                return;
+            }
+            else {
+                iterator.remove();
+            }
+        }
+        methods.add(method);
+    }
+
+    private boolean isSubtype(final ClassFile type, final String supertypeName) throws IOException {
+        if (type.name().equals(supertypeName)) {
+            return true;
+        }
+
+        final List<String> supertypes = new ArrayList<>(type.interfaces());
+        if (type.superName() != null) {
+            supertypes.add(type.superName());
+        }
+        for (final String supertype : supertypes) {
+            final Optional<ClassFile> cls = find(supertype);
+            if (cls.isPresent() && isSubtype(cls.get(), supertypeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<ClassFile> findSuperclass(final ClassFile cls) throws IOException {
+        // the superclass of interfaces is java.lang.Object in the class file, but not for reflection
+        if (cls.superName() == null || cls.is(ClassFile.ACC_INTERFACE)) {
+            return Optional.empty();
+        }
+        return find(cls.superName());
+    }
+
+    private static boolean isMainMethodSignature(final ClassFile.Method method) {
+        return MAIN_METHOD_NAME.equals(method.name()) && MAIN_METHOD_DESCRIPTORS.contains(method.descriptor());
+    }
+
+    private static boolean isMainMethod(final ClassFile cls, final ClassFile.Method method) {
+        return isMainMethodSignature(method) && !method.is(ClassFile.ACC_PRIVATE)
+            && !method.is(ClassFile.ACC_ABSTRACT) && isInstantiableInCaseOfInstanceMainMethod(cls, method);
+    }
+
+    private static boolean isInstantiableInCaseOfInstanceMainMethod(final ClassFile owner,
+        final ClassFile.Method method) {
+        if (!method.is(ClassFile.ACC_STATIC)) {
+            final boolean hasNoArgsPublicConstructor = owner.methods().stream()
+                .anyMatch(
+                    item -> CONSTRUCTOR_NAME.equals(item.name()) && NO_ARGS_DESCRIPTOR.equals(item.descriptor())
+                        && item.is(ClassFile.ACC_PUBLIC)
+                );
+            return !owner.is(ClassFile.ACC_ABSTRACT) && hasNoArgsPublicConstructor;
+        }
+        else {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.main_method;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.uni_passau.fim.se2.pipeline_helper.helpers.ParallelTasks;
+
+/**
+ * Excludes classes that can neither declare nor inherit a main method by reading only the constant pools of their
+ * class files.
+ * <p>
+ * A class declaring a method called {@code main} contains this name in its constant pool. Classes without it are only
+ * candidates if one of their supertypes is a candidate. Whether a class is a candidate is remembered, so every class
+ * file in the hierarchy is usually read only once, even if the classes are filtered concurrently. Supertypes are looked
+ * up like in {@link ClassHierarchy}.
+ */
+public final class MainMethodCandidates {
+
+    private static final String MAIN_METHOD_NAME = "main";
+
+    private final Path classpath;
+    private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a filter without any known candidates.
+     *
+     * @param classpath the directory containing the class files.
+     */
+    public MainMethodCandidates(final Path classpath) {
+        this.classpath = classpath;
+    }
+
+    /**
+     * Keeps the classes that may have a main method.
+     *
+     * @param classNames  the binary names of the classes, e.g. {@code com.example.Main}.
+     * @param parallelism the maximum number of class files read concurrently.
+     * @return the candidates in the given order. Classes without a class file declaring them are excluded.
+     * @throws IOException if a class file cannot be read.
+     */
+    public List<String> filter(final List<String> classNames, final int parallelism) throws IOException {
+        final List<Boolean> isCandidate = ParallelTasks.map(
+            classNames, parallelism, className -> isCandidate(className.replace('.', '/'), new HashSet<>())
+        );
+
+        final List<String> filtered = new ArrayList<>();
+        for (int i = 0; i < classNames.size(); ++i) {
+            if (isCandidate.get(i)) {
+                filtered.add(classNames.get(i));
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Checks if a class is a candidate.
+     *
+     * @param name     the internal name of the class.
+     * @param visiting the classes whose supertypes are currently checked, which stops the search in cyclic
+     *                 hierarchies of invalid class files.
+     */
+    private boolean isCandidate(final String name, final Set<String> visiting) throws IOException {
+        final Boolean known = candidates.get(name);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(name)) {
+            return false;
+        }
+
+        boolean candidate = false;
+        final Optional<ClassFileReader> reader = ClassFileReader.find(classpath, name);
+        if (reader.isPresent()) {
+            candidate = reader.get().containsUtf8(MAIN_METHOD_NAME) || hasCandidateSupertype(reader.get(), visiting);
+        }
+
+        visiting.remove(name);
+        candidates.put(name, candidate);
+        return candidate;
+    }
+
+    private boolean hasCandidateSupertype(final ClassFileReader reader, final Set<String> visiting)
+        throws IOException {
+        if (reader.superName() != null && isCandidate(reader.superName(), visiting)) {
+            return true;
+        }
+        for (final String interfaceName : reader.interfaces()) {
+            if (isCandidate(interfaceName, visiting)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class FileGlobs {
+
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private FileGlobs() {
+    }
+
+    /**
+     * Checks if the given path contains glob wildcards.
+     *
+     * @param path a path that may contain glob wildcards.
+     * @return true, if the path is a glob pattern rather than a literal path.
+     */
+    public static boolean isPattern(final String path) {
+        return path.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Finds all regular files matching the glob pattern.
+     * <p>
+     * The pattern uses the syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)}. Only the directory
+     * denoted by the path segments before the first segment containing a wildcard is searched.
+     *
+     * @param pattern a glob pattern, e.g. {@code tests/**}{@code /*.log}.
+     * @return all matching files in lexicographic order.
+     * @throws IOException if the directory containing the matches cannot be searched.
+     */
+    public static List<Path> expand(final String pattern) throws IOException {
+        return expandWithAttributes(pattern).stream().map(FileIndex.Entry::path).toList();
+    }
+
+    /**
+     * Finds all regular files matching the glob pattern together with their attributes.
+     * <p>
+     * The attributes of each entry in the searched directory are read once by the walk. Only the targets of symbolic
+     * links that match the pattern are read separately.
+     *
+     * @param pattern a glob pattern, see {@link #expand(String)}.
+     * @return all matching files in lexicographic order of their paths.
+     * @throws IOException if the directory containing the matches cannot be searched.
+     */
+    public static List<FileIndex.Entry> expandWithAttributes(final String pattern) throws IOException {
+        final Path base = baseDirectory(pattern);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        final List<FileIndex.Entry> files = new ArrayList<>();
+        Files.walkFileTree(base, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (matcher.matches(file)) {
+                    final BasicFileAttributes fileAttrs = attrs.isSymbolicLink() ? linkTarget(file) : attrs;
+                    if (fileAttrs != null && fileAttrs.isRegularFile()) {
+                        files.add(new FileIndex.Entry(file, fileAttrs.size(), fileAttrs.lastModifiedTime()));
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.sort(Comparator.comparing(FileIndex.Entry::path));
+        return files;
+    }
+
+    private static BasicFileAttributes linkTarget(final Path file) {
+        // links are not followed by the walk, but linked files match like the files themselves
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Path baseDirectory(final String pattern) {
+        return Path.of(pattern.substring(0, firstPatternSegmentStart(pattern)));
+    }
+
+    private static int firstPatternSegmentStart(final String pattern) {
+        int segmentStart = 0;
+        for (int i = 0; i < pattern.length(); ++i) {
+            final char c = pattern.charAt(i);
+            if (GLOB_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            }
+            else if (c == '/') {
+                segmentStart = i + 1;
+            }
+        }
+        return segmentStart;
+    }
+}
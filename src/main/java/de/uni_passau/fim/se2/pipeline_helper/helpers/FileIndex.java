@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers the files in directory trees, so multiple checkers searching the same tree only walk it once.
+ * <p>
+ * Each distinct search path is walked at most once per set of excluded directories, independent of the extensions
+ * and include patterns the checkers search for. Search paths are compared by their normalised absolute path, so
+ * {@code src}, {@code ./src}, and the absolute path of the same directory share one walk. The files are bucketed by
+ * their extension, so a query only looks at the files with matching extensions. Changes to the file system after the
+ * first walk are not noticed.
+ */
+public class FileIndex {
+
+    /**
+     * A regular file found in a directory tree.
+     *
+     * @param path         the path of the file, resolved against the search path.
+     * @param size         the size of the file in bytes.
+     * @param lastModified the time the file has last been modified.
+     */
+    public record Entry(Path path, long size, FileTime lastModified) {
+    }
+
+    private record Key(Path searchPath, Set<String> excludedDirectories) {
+    }
+
+    /**
+     * The files of a walked search path.
+     *
+     * @param searchPath the search path as given for the walk, the paths of the files are resolved against it.
+     * @param buckets    the files bucketed by the text following the last dot of their name.
+     */
+    private record Snapshot(Path searchPath, Map<String, List<Entry>> buckets) {
+    }
+
+    private final Map<Key, Snapshot> snapshots = new HashMap<>();
+
+    /**
+     * Returns the readable files the walker would find.
+     *
+     * @param searchPath the directory to search for files in.
+     * @param walker     defines which files are searched for and how the tree is walked if it has not been yet.
+     * @return the matching readable files in lexicographic order.
+     * @throws IOException if the search path or any directory in it is not accessible.
+     */
+    public List<Path> files(final Path searchPath, final FileWalker walker) throws IOException {
+        return entries(searchPath, walker).stream()
+            .map(Entry::path)
+            .filter(Files::isReadable)
+            .toList();
+    }
+
+    /**
+     * Returns the files the walker would find together with their attributes.
+     * <p>
+     * The readability of the files is not checked.
+     *
+     * @param searchPath the directory to search for files in.
+     * @param walker     defines which files are searched for and how the tree is walked if it has not been yet.
+     * @return the matching files in lexicographic order of their paths.
+     * @throws IOException if the search path or any directory in it is not accessible.
+     */
+    public List<Entry> entries(final Path searchPath, final FileWalker walker) throws IOException {
+        final Snapshot snapshot = snapshot(searchPath, walker);
+        final boolean sameSearchPath = snapshot.searchPath().equals(searchPath);
+
+        // an extension may contain dots itself, its bucket is the one of its last part
+        final Set<String> buckets = new LinkedHashSet<>();
+        for (final String extension : walker.extensions()) {
+            buckets.add(lastExtension(extension));
+        }
+
+        final List<Entry> entries = new ArrayList<>();
+        for (final String bucket : buckets) {
+            for (final Entry walked : snapshot.buckets().getOrDefault(bucket, List.of())) {
+                // the same directory may have been walked via another path
+                final Entry entry = sameSearchPath ? walked : new Entry(
+                    searchPath.resolve(snapshot.searchPath().relativize(walked.path())), walked.size(),
+                    walked.lastModified()
+                );
+                if (walker.matches(searchPath, entry.path())) {
+                    entries.add(entry);
+                }
+            }
+        }
+        if (buckets.size() > 1) {
+            entries.sort(Comparator.comparing(Entry::path));
+        }
+        return entries;
+    }
+
+    private synchronized Snapshot snapshot(final Path searchPath, final FileWalker walker) throws IOException {
+        final Key key = new Key(searchPath.toAbsolutePath().normalize(), walker.excludedDirectories());
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            final Map<String, List<Entry>> buckets = new HashMap<>();
+            for (final Entry entry : walker.index(searchPath)) {
+                buckets.computeIfAbsent(lastExtension(entry.path().getFileName().toString()), e -> new ArrayList<>())
+                    .add(entry);
+            }
+            snapshot = new Snapshot(searchPath, buckets);
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    private static String lastExtension(final String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,104 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads lists of paths, e.g. the output of {@code git ls-files} or {@code find -print0}.
+ * <p>
+ * The paths are either separated by line breaks or by NUL characters. Once a NUL character has been read, all paths
+ * are expected to be separated by NUL characters, so they may contain line breaks. Empty paths are skipped.
+ */
+public final class FileList {
+
+    /**
+     * The name of the list that is read from the standard input.
+     */
+    public static final String STANDARD_INPUT = "-";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private FileList() {
+    }
+
+    /**
+     * Reads a list of paths from a file or the standard input.
+     *
+     * @param source the file containing the list, or {@link #STANDARD_INPUT}.
+     * @return the paths in the order they are listed.
+     * @throws IOException if the list cannot be read.
+     */
+    public static List<Path> read(final String source) throws IOException {
+        if (STANDARD_INPUT.equals(source)) {
+            return read(System.in);
+        }
+
+        try (InputStream input = Files.newInputStream(Path.of(source))) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads a list of UTF-8 encoded paths.
+     *
+     * @param input the list, it is not closed.
+     * @return the paths in the order they are listed.
+     * @throws IOException if the list cannot be read.
+     */
+    public static List<Path> read(final InputStream input) throws IOException {
+        final Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        final char[] buffer = new char[BUFFER_SIZE];
+        final List<String> names = new ArrayList<>();
+        final StringBuilder name = new StringBuilder();
+        boolean nulSeparated = false;
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; ++i) {
+                final char c = buffer[i];
+                if (c == '\0') {
+                    if (!nulSeparated) {
+                        // all lines so far belong to the first path
+                        names.add(name.toString());
+                        name.setLength(0);
+                        name.append(String.join("\n", names));
+                        names.clear();
+                        nulSeparated = true;
+                    }
+                    names.add(name.toString());
+                    name.setLength(0);
+                }
+                else if (c == '\n' && !nulSeparated) {
+                    names.add(name.toString());
+                    name.setLength(0);
+                }
+                else {
+                    name.append(c);
+                }
+            }
+        }
+        names.add(name.toString());
+
+        final List<Path> paths = new ArrayList<>(names.size());
+        for (final String listed : names) {
+            final String path = !nulSeparated && listed.endsWith("\r")
+                ? listed.substring(0, listed.length() - 1)
+                : listed;
+            if (!path.isEmpty()) {
+                paths.add(Path.of(path));
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,337 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds readable files in a directory tree.
+ * <p>
+ * The directory tree is walked once, the attributes of each entry are only read once by the walk itself. Only the
+ * readability of matching files is checked separately. Excluded directories are not descended into.
+ * <p>
+ * Optionally, the directories are listed concurrently. Each directory is a fork-join task, so idle threads steal the
+ * subdirectories of busy ones. This hides the latency of slow file systems. The result is sorted either way.
+ */
+public class FileWalker {
+
+    /**
+     * Directories containing version control data, build outputs, or dependencies rather than sources.
+     */
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES = Set.of(".git", "target", "build", "node_modules");
+
+    private final List<String> extensions;
+    private final List<String> suffixes;
+    private final List<PathMatcher> includes;
+    private final Set<String> excludedDirectories;
+    private final int parallelism;
+
+    /**
+     * Creates a walker that lists the directories one after another.
+     *
+     * @param extensions          the file extensions without a dot, e.g. "java". A file has to end with any of them.
+     * @param includes            glob patterns relative to the search path, see
+     *                            {@link java.nio.file.FileSystem#getPathMatcher(String)}. If any are given, a file has
+     *                            to match at least one of them as well.
+     * @param excludedDirectories names of directories that are skipped entirely. The search path itself is never
+     *                            skipped.
+     */
+    public FileWalker(
+        final Collection<String> extensions, final Collection<String> includes,
+        final Collection<String> excludedDirectories
+    ) {
+        this(extensions, includes, excludedDirectories, 1);
+    }
+
+    /**
+     * Creates a walker.
+     *
+     * @param extensions          the file extensions without a dot, e.g. "java". A file has to end with any of them.
+     * @param includes            glob patterns relative to the search path. If any are given, a file has to match at
+     *                            least one of them as well.
+     * @param excludedDirectories names of directories that are skipped entirely.
+     * @param parallelism         the maximum number of directories listed concurrently.
+     */
+    public FileWalker(
+        final Collection<String> extensions, final Collection<String> includes,
+        final Collection<String> excludedDirectories, final int parallelism
+    ) {
+        this.extensions = List.copyOf(extensions);
+        this.suffixes = extensions.stream().map(extension -> "." + extension).toList();
+        this.includes = includes.stream()
+            .map(include -> FileSystems.getDefault().getPathMatcher("glob:" + include))
+            .toList();
+        this.excludedDirectories = Set.copyOf(excludedDirectories);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns all readable files with the given file extension in the search path.
+     * <p>
+     * No directories are excluded.
+     *
+     * @param searchPath the directory to search for files in.
+     * @param extension  the file ending to filter on, e.g. "java".
+     * @return all readable files with the extension in the search path in lexicographic order.
+     * @throws IOException if the search path is not accessible.
+     */
+    public static List<Path> files(final Path searchPath, final String extension) throws IOException {
+        return files(searchPath, extension, 1);
+    }
+
+    /**
+     * Returns all readable files with the given file extension in the search path.
+     * <p>
+     * No directories are excluded.
+     *
+     * @param searchPath  the directory to search for files in.
+     * @param extension   the file ending to filter on, e.g. "java".
+     * @param parallelism the maximum number of directories listed concurrently.
+     * @return all readable files with the extension in the search path in lexicographic order.
+     * @throws IOException if the search path is not accessible.
+     */
+    public static List<Path> files(final Path searchPath, final String extension, final int parallelism)
+        throws IOException {
+        return new FileWalker(List.of(extension), List.of(), Set.of(), parallelism).walk(searchPath);
+    }
+
+    /**
+     * Finds all matching readable files.
+     *
+     * @param searchPath the directory to search for files in.
+     * @return the matching files in lexicographic order.
+     * @throws IOException if the search path or any directory in it is not accessible.
+     */
+    public List<Path> walk(final Path searchPath) throws IOException {
+        return collect(searchPath, true).stream()
+            .map(FileIndex.Entry::path)
+            .filter(Files::isReadable)
+            .toList();
+    }
+
+    /**
+     * Selects the files this walker would find from a list of files without walking the search path.
+     * <p>
+     * Listed files outside the search path or inside excluded directories are skipped, as are files that are no
+     * readable regular files. Only the listed files themselves are accessed.
+     *
+     * @param searchPath the directory the files have to be in.
+     * @param files      the listed files, relative to the working directory or absolute.
+     * @return the distinct matching readable files in lexicographic order, resolved against the search path.
+     */
+    public List<Path> select(final Path searchPath, final Collection<Path> files) {
+        final Path absoluteSearchPath = searchPath.toAbsolutePath().normalize();
+        final List<Path> selected = new ArrayList<>();
+
+        for (final Path listed : files) {
+            final Path absoluteFile = listed.toAbsolutePath().normalize();
+            if (!absoluteFile.startsWith(absoluteSearchPath)) {
+                continue;
+            }
+
+            final Path relativeFile = absoluteSearchPath.relativize(absoluteFile);
+            final Path file = searchPath.resolve(relativeFile);
+            if (isInExcludedDirectory(relativeFile) || !matches(searchPath, file)) {
+                continue;
+            }
+            if (Files.isRegularFile(file) && Files.isReadable(file)) {
+                selected.add(file);
+            }
+        }
+
+        return selected.stream().sorted().distinct().toList();
+    }
+
+    /**
+     * Finds all regular files in the directories that are not excluded, regardless of their extension.
+     *
+     * @param searchPath the directory to search for files in.
+     * @return the files with their attributes in lexicographic order of their paths.
+     * @throws IOException if the search path or any directory in it is not accessible.
+     */
+    List<FileIndex.Entry> index(final Path searchPath) throws IOException {
+        return collect(searchPath, false);
+    }
+
+    List<String> extensions() {
+        return extensions;
+    }
+
+    Set<String> excludedDirectories() {
+        return excludedDirectories;
+    }
+
+    private List<FileIndex.Entry> collect(final Path searchPath, final boolean filter) throws IOException {
+        final List<FileIndex.Entry> files = parallelism > 1
+            ? walkConcurrently(searchPath, filter)
+            : walkSequentially(searchPath, filter);
+        files.sort(Comparator.comparing(FileIndex.Entry::path));
+        return files;
+    }
+
+    private List<FileIndex.Entry> walkSequentially(final Path searchPath, final boolean filter) throws IOException {
+        final List<FileIndex.Entry> files = new ArrayList<>();
+
+        Files.walkFileTree(searchPath, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                if (!dir.equals(searchPath) && isExcluded(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                visit(searchPath, file, attrs, filter, files);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return files;
+    }
+
+    private List<FileIndex.Entry> walkConcurrently(final Path searchPath, final boolean filter) throws IOException {
+        final BasicFileAttributes attrs = Files.readAttributes(
+            searchPath, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+        );
+        if (!attrs.isDirectory()) {
+            final List<FileIndex.Entry> files = new ArrayList<>();
+            visit(searchPath, searchPath, attrs, filter, files);
+            return files;
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new DirectoryTask(searchPath, filter, searchPath));
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void visit(
+        final Path searchPath, final Path file, final BasicFileAttributes attrs, final boolean filter,
+        final List<FileIndex.Entry> files
+    ) {
+        if (filter && !matches(searchPath, file)) {
+            return;
+        }
+
+        final BasicFileAttributes fileAttrs = attrs.isSymbolicLink() ? linkTarget(file) : attrs;
+        if (fileAttrs != null && fileAttrs.isRegularFile()) {
+            files.add(new FileIndex.Entry(file, fileAttrs.size(), fileAttrs.lastModifiedTime()));
+        }
+    }
+
+    /**
+     * Checks if the file matches the extensions and include patterns of this walker.
+     *
+     * @param searchPath the directory the include patterns are relative to.
+     * @param file       a file in the search path.
+     * @return true if the file is one of the files searched for.
+     */
+    boolean matches(final Path searchPath, final Path file) {
+        final String fileName = file.getFileName().toString();
+        if (suffixes.stream().noneMatch(fileName::endsWith)) {
+            return false;
+        }
+
+        final Path relativePath = searchPath.relativize(file);
+        return includes.isEmpty() || includes.stream().anyMatch(include -> include.matches(relativePath));
+    }
+
+    private static BasicFileAttributes linkTarget(final Path file) {
+        // links are not followed by the walk, but linked files are checked like the files themselves
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean isExcluded(final Path dir) {
+        return excludedDirectories.contains(dir.getFileName().toString());
+    }
+
+    private boolean isInExcludedDirectory(final Path relativeFile) {
+        for (int i = 0; i < relativeFile.getNameCount() - 1; ++i) {
+            if (excludedDirectories.contains(relativeFile.getName(i).toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists a directory and forks a task for each of its subdirectories.
+     */
+    private final class DirectoryTask extends RecursiveTask<List<FileIndex.Entry>> {
+
+        private final Path searchPath;
+        private final boolean filter;
+        private final Path dir;
+
+        DirectoryTask(final Path searchPath, final boolean filter, final Path dir) {
+            this.searchPath = searchPath;
+            this.filter = filter;
+            this.dir = dir;
+        }
+
+        @Override
+        protected List<FileIndex.Entry> compute() {
+            final List<FileIndex.Entry> files = new ArrayList<>();
+            final List<DirectoryTask> subdirectories = new ArrayList<>();
+
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                for (final Path entry : entries) {
+                    final BasicFileAttributes attrs = Files.readAttributes(
+                        entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+                    );
+                    if (attrs.isDirectory()) {
+                        if (!isExcluded(entry)) {
+                            final DirectoryTask subdirectory = new DirectoryTask(searchPath, filter, entry);
+                            subdirectory.fork();
+                            subdirectories.add(subdirectory);
+                        }
+                    }
+                    else {
+                        visit(searchPath, entry, attrs, filter, files);
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            for (final DirectoryTask subdirectory : subdirectories) {
+                files.addAll(subdirectory.join());
+            }
+            return files;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists the files tracked in a git repository by reading its index file directly, without running {@code git}.
+ * <p>
+ * The index is read sequentially once. It contains the tracked paths together with the sizes and modification times
+ * cached by git, which may be outdated if the files have been changed since they have been staged. Index versions 2 to
+ * 4 of repositories using SHA-1 object names are supported, the extensions following the entries are ignored.
+ */
+public final class GitIndex {
+
+    private static final int SIGNATURE = 0x44495243; // "DIRC"
+    private static final int OBJECT_NAME_LENGTH = 20;
+
+    /**
+     * The bytes of an entry before its path in versions 2 and 3, the start of the entry is 8-byte aligned.
+     */
+    private static final int ENTRY_HEADER_LENGTH = 62;
+
+    private static final int FLAG_EXTENDED = 0x4000;
+    private static final int NAME_LENGTH_MASK = 0x0fff;
+
+    private static final int OBJECT_TYPE_MASK = 0170000;
+    private static final int OBJECT_TYPE_REGULAR_FILE = 0100000;
+    private static final int OBJECT_TYPE_SYMBOLIC_LINK = 0120000;
+
+    private GitIndex() {
+    }
+
+    /**
+     * Lists the files tracked in the git repository containing the given path.
+     *
+     * @param path a path inside the work tree of a repository.
+     * @return the tracked files and symbolic links in the order of the index, resolved against the root of the work
+     *         tree. Each path is only listed once, even if it has merge conflicts.
+     * @throws IOException if the path is not inside a git repository or its index cannot be read.
+     */
+    public static List<FileIndex.Entry> trackedFiles(final Path path) throws IOException {
+        Path workTree = path.toAbsolutePath().normalize();
+        while (workTree != null && !Files.exists(workTree.resolve(".git"))) {
+            workTree = workTree.getParent();
+        }
+        if (workTree == null) {
+            throw new NoSuchFileException(path.toString(), null, "Not inside a git repository.");
+        }
+
+        return read(gitDirectory(workTree).resolve("index"), workTree);
+    }
+
+    /**
+     * Reads a git index file.
+     *
+     * @param indexFile the index file, usually {@code .git/index}.
+     * @param workTree  the directory the paths in the index are relative to.
+     * @return the tracked files and symbolic links in the order of the index, resolved against the work tree.
+     * @throws IOException if the index cannot be read or is no supported git index.
+     */
+    public static List<FileIndex.Entry> read(final Path indexFile, final Path workTree) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(indexFile))) {
+            return read(new DataInputStream(input), workTree);
+        }
+        catch (EOFException e) {
+            throw new IOException("Truncated git index " + indexFile, e);
+        }
+    }
+
+    private static List<FileIndex.Entry> read(final DataInputStream input, final Path workTree) throws IOException {
+        if (input.readInt() != SIGNATURE) {
+            throw new IOException("Not a git index.");
+        }
+        final int version = input.readInt();
+        if (version < 2 || version > 4) {
+            throw new IOException("Unsupported git index version " + version + ".");
+        }
+        final long entryCount = Integer.toUnsignedLong(input.readInt());
+
+        // entries with merge conflicts are listed once per stage
+        final Map<String, FileIndex.Entry> entries = new LinkedHashMap<>();
+        byte[] previousName = new byte[0];
+
+        for (long i = 0; i < entryCount; ++i) {
+            input.skipNBytes(8); // ctime
+            final long mtimeSeconds = Integer.toUnsignedLong(input.readInt());
+            final long mtimeNanos = Integer.toUnsignedLong(input.readInt());
+            input.skipNBytes(8); // dev, ino
+            final int mode = input.readInt();
+            input.skipNBytes(8); // uid, gid
+            final long size = Integer.toUnsignedLong(input.readInt());
+            input.skipNBytes(OBJECT_NAME_LENGTH);
+            final int flags = input.readUnsignedShort();
+
+            int headerLength = ENTRY_HEADER_LENGTH;
+            if (version >= 3 && (flags & FLAG_EXTENDED) != 0) {
+                input.skipNBytes(2);
+                headerLength += 2;
+            }
+
+            final byte[] name;
+            if (version == 4) {
+                name = readPrefixCompressedName(input, previousName);
+            }
+            else {
+                name = readPaddedName(input, flags & NAME_LENGTH_MASK, headerLength);
+            }
+            previousName = name;
+
+            final int objectType = mode & OBJECT_TYPE_MASK;
+            if (objectType == OBJECT_TYPE_REGULAR_FILE || objectType == OBJECT_TYPE_SYMBOLIC_LINK) {
+                final String path = new String(name, StandardCharsets.UTF_8);
+                final FileTime lastModified = FileTime.from(Instant.ofEpochSecond(mtimeSeconds, mtimeNanos));
+                entries.putIfAbsent(path, new FileIndex.Entry(workTree.resolve(path), size, lastModified));
+            }
+        }
+
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Reads a path that is terminated by at least one NUL byte, so that the entry length is a multiple of eight.
+     */
+    private static byte[] readPaddedName(final DataInputStream input, final int nameLength, final int headerLength)
+        throws IOException {
+        final byte[] name;
+        if (nameLength < NAME_LENGTH_MASK) {
+            name = input.readNBytes(nameLength);
+            if (name.length < nameLength) {
+                throw new EOFException();
+            }
+            input.skipNBytes(padding(headerLength + nameLength));
+        }
+        else {
+            // the length of long paths is not stored, the first NUL byte has been read with the path already
+            name = readUntilNul(input, new ByteArrayOutputStream());
+            input.skipNBytes(padding(headerLength + name.length) - 1);
+        }
+        return name;
+    }
+
+    private static int padding(final int unpaddedLength) {
+        return 8 - unpaddedLength % 8;
+    }
+
+    /**
+     * Reads a path stored as the number of bytes to remove from the end of the previous path and a NUL terminated
+     * suffix to append.
+     */
+    private static byte[] readPrefixCompressedName(final DataInputStream input, final byte[] previousName)
+        throws IOException {
+        final long removed = readOffset(input);
+        if (removed > previousName.length) {
+            throw new IOException("Invalid path compression in git index.");
+        }
+
+        final ByteArrayOutputStream name = new ByteArrayOutputStream();
+        name.write(previousName, 0, previousName.length - (int) removed);
+        return readUntilNul(input, name);
+    }
+
+    /**
+     * Reads a variable-length number in the offset encoding of git, in which each continuation adds one.
+     */
+    private static long readOffset(final DataInputStream input) throws IOException {
+        int b = input.readUnsignedByte();
+        long value = b & 0x7f;
+        while ((b & 0x80) != 0) {
+            b = input.readUnsignedByte();
+            value = ((value + 1) << 7) | (b & 0x7f);
+        }
+        return value;
+    }
+
+    private static byte[] readUntilNul(final DataInputStream input, final ByteArrayOutputStream name)
+        throws IOException {
+        int b;
+        while ((b = input.readUnsignedByte()) != 0) {
+            name.write(b);
+        }
+        return name.toByteArray();
+    }
+
+    /**
+     * Finds the git directory of a work tree, which is referenced by a {@code .git} file in linked work trees and
+     * submodules.
+     */
+    private static Path gitDirectory(final Path workTree) throws IOException {
+        final Path dotGit = workTree.resolve(".git");
+        if (Files.isDirectory(dotGit)) {
+            return dotGit;
+        }
+
+        final String content = Files.readString(dotGit).trim();
+        if (!content.startsWith("gitdir:")) {
+            throw new IOException("Invalid git file " + dotGit);
+        }
+        return workTree.resolve(content.substring("gitdir:".length()).trim());
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * A task that transforms a single input and may fail with a checked exception.
+     *
+     * @param <T> the type of the input.
+     * @param <R> the type of the result.
+     * @param <E> the type of the exception the task may throw.
+     */
+    @FunctionalInterface
+    public interface Task<T, R, E extends Exception> {
+
+        R apply(T input) throws E;
+    }
+
+    /**
+     * Resolves a user-supplied parallelism level.
+     *
+     * @param requested the requested number of threads, values smaller than one mean one thread per available
+     *                  processor.
+     * @return the number of threads to use.
+     */
+    public static int resolveParallelism(final int requested) {
+        if (requested < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return requested;
+    }
+
+    /**
+     * Applies the task to all inputs using a bounded pool of worker threads.
+     * <p>
+     * The tasks are run directly on the calling thread if only a single thread is requested or if there is at most
+     * one input.
+     *
+     * @param inputs      the inputs the task should be applied to.
+     * @param parallelism the maximum number of threads used to run the tasks.
+     * @param task        the task to apply to each input.
+     * @param <T>         the type of the inputs.
+     * @param <R>         the type of the results.
+     * @param <E>         the type of the exception the task may throw.
+     * @return the results in the same order as the inputs.
+     * @throws E if any task failed. The exception of the first failed input is rethrown.
+     */
+    public static <T, R, E extends Exception> List<R> map(
+        final List<T> inputs, final int parallelism, final Task<? super T, ? extends R, E> task
+    ) throws E {
+        if (parallelism <= 1 || inputs.size() <= 1) {
+            final List<R> results = new ArrayList<>(inputs.size());
+            for (final T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, inputs.size()));
+        try {
+            final List<Future<? extends R>> futures = new ArrayList<>(inputs.size());
+            for (final T input : inputs) {
+                futures.add(executor.submit(() -> task.apply(input)));
+            }
+
+            final List<R> results = new ArrayList<>(inputs.size());
+            for (final Future<? extends R> future : futures) {
+                results.add(await(future));
+            }
+            return results;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, E extends Exception> R await(final Future<R> future) throws E {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks.", e);
+        }
+        catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            else if (cause instanceof Error error) {
+                throw error;
+            }
+            else {
+                throw (E) cause;
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@
 
 package de.uni_passau.fim.se2.pipeline_helper.model;
 
+import java.util.List;
+
 public interface Checker {
 
     /**
@@ -13,4 +15,14 @@ public interface Checker {
      * @throws CheckerException if the execution failed or an invalid feedback has been constructed.
      */
     CheckerResult check() throws CheckerException;
+
+    /**
+     * Executes the checker for checkers that may produce more than one result.
+     *
+     * @return all results of the checking operation, at least one.
+     * @throws CheckerException if the execution failed or an invalid feedback has been constructed.
+     */
+    default List<CheckerResult> checkAll() throws CheckerException {
+        return List.of(check());
+    }
 }
@@ -8,7 +8,10 @@ import java.util.Objects;
 
 public class CheckerResult {
 
-    private static final int MAX_MESSAGE_LENGTH = 10_000_000;
+    /**
+     * Longer messages are truncated to this number of characters.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 10_000_000;
 
     /**
      * Name which will be used in Artemis to identify this result.
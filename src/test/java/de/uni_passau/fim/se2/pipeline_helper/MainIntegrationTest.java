@@ -36,6 +36,24 @@ class MainIntegrationTest extends IOTest {
         assertCheckerResultCreated(outputDir.resolve(LINE_LENGTH_CHECKER_RESULT_FILE));
     }
 
+    @Test
+    void testFileExistsCheckerWithFilesFrom(@TempDir Path outputDir) throws IOException {
+        final Path list = Files.writeString(outputDir.resolve("files.txt"), "README.adoc\0pom.xml\0missing.txt\0");
+        commandLine.execute("-o", outputDir.toString(), "file-exists", "--files-from", list.toString(), "LICENSE");
+
+        assertCheckerResultContains(
+            outputDir.resolve("TEST-FileExistsChecker.json"), "\"successful\":false", "missing.txt"
+        );
+    }
+
+    @Test
+    void testFileExistsCheckerRejectsInvalidGlobRange(@TempDir Path outputDir) {
+        final int exitCode = commandLine.execute(
+            "-o", outputDir.toString(), "file-exists", "--glob", "*.java=2..1"
+        );
+        assertThat(exitCode).isEqualTo(2);
+    }
+
     @Test
     void testCustomFeedbackCreator(@TempDir Path outputDir) throws IOException {
         commandLine
@@ -61,6 +79,122 @@ class MainIntegrationTest extends IOTest {
             "name":"simple","successful":true,"message":"spawn java -cp""");
     }
 
+    @Test
+    void testDejagnuBatchFeedback(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "--logs", "src/test/resources/dejagnu_logs", "-t", "2"
+        );
+        assertOutputLineCount(6);
+
+        assertCheckerResultContains(outputDir.resolve("TEST-gcd.json"), "\"name\":\"gcd\",\"successful\":true");
+        assertCheckerResultContains(outputDir.resolve("TEST-gcd2.json"), "\"name\":\"gcd2\",\"successful\":false");
+        assertCheckerResultCreated(outputDir.resolve("TEST-gcd_stacktrace.json"));
+        assertCheckerResultCreated(outputDir.resolve("TEST-gcd_timeout.json"));
+        assertCheckerResultCreated(outputDir.resolve("TEST-rev.json"));
+        assertCheckerResultCreated(outputDir.resolve("TEST-sweep.json"));
+    }
+
+    @Test
+    void testDejagnuParallelScanFeedback(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "-l", "src/test/resources/dejagnu_logs/gcd2.log", "-n", "gcd2",
+            "--parallel-scan=2"
+        );
+
+        assertCheckerResultContains(outputDir.resolve("TEST-gcd2.json"), "\"name\":\"gcd2\",\"successful\":false");
+    }
+
+    @Test
+    void testDejagnuBatchFeedbackWithNamePattern(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu",
+            "--logs", "src/test/resources/dejagnu_logs/gcd?.log",
+            "--logs", "src/test/resources/dejagnu_logs/missing.log",
+            "--name-pattern", "{parent}-{name}"
+        );
+
+        assertCheckerResultContains(
+            outputDir.resolve("TEST-dejagnu_logs-gcd2.json"), "\"name\":\"dejagnu_logs-gcd2\",\"successful\":false"
+        );
+        assertCheckerResultContains(
+            outputDir.resolve("TEST-dejagnu_logs-missing.json"), "Could not generate a report for this test."
+        );
+        assertThat(outputDir.resolve("TEST-dejagnu_logs-gcd.json").toFile().exists()).isFalse();
+    }
+
+    @Test
+    void testDejagnuRequiresLogs(@TempDir Path outputDir) {
+        final int exitCode = commandLine.execute("-o", outputDir.toString(), "dejagnu", "-n", "withoutLog");
+        assertThat(exitCode).isEqualTo(2);
+    }
+
+    @Test
+    void testDejagnuSplitTestCasesFeedback(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "-l", "src/test/resources/dejagnu_logs/gcd2.log", "-n", "gcd2",
+            "--split-test-cases"
+        );
+
+        assertCheckerResultContains(outputDir.resolve("TEST-gcd2.json"), "\"name\":\"gcd2\",\"successful\":false");
+        assertCheckerResultContains(
+            outputDir.resolve("TEST-gcd2-960_18.json"), "\"name\":\"gcd2-960_18\",\"successful\":false"
+        );
+    }
+
+    @Test
+    void testDejagnuFollowFeedback(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "-l", "src/test/resources/dejagnu_logs/gcd.log", "-n", "gcd",
+            "--follow", "--idle-timeout", "1"
+        );
+
+        assertCheckerResultContains(outputDir.resolve("TEST-gcd.json"), "\"name\":\"gcd\",\"successful\":true");
+    }
+
+    @Test
+    void testDejagnuFollowRejectsParallelScan(@TempDir Path outputDir) {
+        final int exitCode = commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "-l", "gcd.log", "-n", "gcd", "--follow", "--parallel-scan"
+        );
+        assertThat(exitCode).isEqualTo(2);
+    }
+
+    @Test
+    void testDejagnuRejectsInvalidReplacement(@TempDir Path outputDir) {
+        final int exitCode = commandLine.execute(
+            "-o", outputDir.toString(), "dejagnu", "-l", "gcd.log", "-n", "gcd", "--replace", "missing separator"
+        );
+        assertThat(exitCode).isEqualTo(2);
+    }
+
+    @Test
+    void testParallelSubcommands(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "--parallel", "2",
+            "dejagnu", "-n", "public", "-l", "src/test/resources/dejagnu_logs/gcd.log",
+            "dejagnu", "-n", "secret", "-l", "src/test/resources/dejagnu_logs/gcd2.log",
+            "message", "-n", "simpleMessage", "-s"
+        );
+        assertOutputLineCount(3);
+
+        assertCheckerResultContains(outputDir.resolve("TEST-public.json"), "\"successful\":true");
+        assertCheckerResultContains(outputDir.resolve("TEST-secret.json"), "\"successful\":false");
+        assertCheckerResultCreated(outputDir.resolve("TEST-simpleMessage.json"));
+    }
+
+    @Test
+    void testParallelSubcommandsWithCrashedChecker(@TempDir Path outputDir) throws IOException {
+        commandLine.execute(
+            "-o", outputDir.toString(), "--parallel",
+            "dejagnu", "-n", "broken", "-l", "src/test/resources/empty.txt",
+            "message", "-n", "simpleMessage", "-s"
+        );
+
+        assertCheckerResultContains(outputDir.resolve("TEST-Error.json"), "\"successful\":false");
+        assertCheckerResultCreated(outputDir.resolve("TEST-simpleMessage.json"));
+        assertThat(outputDir.resolve("TEST-broken.json").toFile().exists()).isFalse();
+    }
+
     private void assertCheckerResultCreated(final Path path) {
         final File output = path.toFile();
         assertThat(output.exists()).isTrue();
@@ -7,11 +7,23 @@ package de.uni_passau.fim.se2.pipeline_helper.checkers;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static de.uni_passau.fim.se2.pipeline_helper.TestUtil.resource;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogChecker;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
@@ -143,4 +155,185 @@ class DejagnuLogCheckerTest {
         assertThat(result.getMessage()).contains("    at ");
         assertThat(result.getMessage()).doesNotContain("\tat ");
     }
+
+    @Test
+    void shouldKeepIntermediateSummariesAndDropLinesAfterLastSummary(@TempDir Path dir) throws Exception {
+        final Path logFile = dir.resolve("multiple.log");
+        Files.writeString(logFile, """
+            Running target unix
+            spawn first
+            PASS: one
+            \t\t=== first Summary ===
+            spawn second
+            PASS: two
+            \t\t=== second Summary ===
+            # of expected passes\t\t2
+            runtest completed
+            """);
+
+        final CheckerResult result = new DejagnuLogChecker(logFile, "multiple").check();
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getMessage()).isEqualTo("""
+            spawn first
+            PASS: one
+            \t\t=== first Summary ===
+            spawn second
+            PASS: two""");
+    }
+
+    @Test
+    void shouldKeepStartAndEndOfHugeLog(@TempDir Path dir) throws Exception {
+        final Path logFile = dir.resolve("huge.log");
+        final String outputLine = "output of a program stuck in an endless loop";
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile)) {
+            writer.write("spawn java Shell\n");
+            for (int i = 0; i < 300_000; ++i) {
+                writer.write(outputLine);
+                writer.write('\n');
+            }
+            writer.write("\t\t=== Summary ===\n# of expected passes\t\t1\n");
+        }
+
+        final CheckerResult result = new DejagnuLogChecker(logFile, "huge").check();
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getMessage()).startsWith("spawn java Shell\n" + outputLine);
+        assertThat(result.getMessage()).containsMatch("\n\\[\\.\\.\\. \\d+ lines omitted \\.\\.\\.]\n" + outputLine);
+        assertThat(result.getMessage()).endsWith(outputLine);
+        assertThat(result.getMessage().length()).isLessThan(CheckerResult.MAX_MESSAGE_LENGTH);
+    }
+
+    @Test
+    void shouldCompactRepetitionsOfEndlessLoop(@TempDir Path dir) throws Exception {
+        final Path logFile = dir.resolve("loop.log");
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile)) {
+            writer.write("spawn java Shell\n");
+            for (int i = 0; i < 300_000; ++i) {
+                writer.write("i = 0\ni++\n");
+            }
+            writer.write("got a TERM signal, terminated\n\t\t=== Summary ===\n");
+        }
+        final DejagnuLogChecker.Options compactRepetitions = new DejagnuLogChecker.Options(
+            1, Optional.empty(), Optional.empty(), false, 100, DejagnuLogChecker.Options.DEFAULT.rewriters(), true
+        );
+
+        final CheckerResult result = new DejagnuLogChecker(logFile, "loop", compactRepetitions).check();
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getMessage()).endsWith("""
+            spawn java Shell
+            i = 0
+            i++
+            [... previous 2 lines repeated 299999 times ...]
+            got a TERM signal, terminated""");
+    }
+
+    @Test
+    void shouldRejectLogWithoutSummary(@TempDir Path dir) throws IOException {
+        final Path logFile = dir.resolve("unfinished.log");
+        Files.writeString(logFile, "spawn java Shell\nPASS: one\n");
+
+        final CheckerException e = assertThrows(
+            CheckerException.class, () -> new DejagnuLogChecker(logFile, "unfinished").check()
+        );
+        assertThat(e).hasMessageThat().startsWith("Invalid Dejagnu log file");
+    }
+
+    @Test
+    void shouldParseGzipCompressedLog(@TempDir Path dir) throws Exception {
+        final Path logFile = dir.resolve("gcd2.log.gz");
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(logFile))) {
+            Files.copy(resource("dejagnu_logs/gcd2.log"), output);
+        }
+        final CheckerResult expected = new DejagnuLogChecker(resource("dejagnu_logs/gcd2.log"), "gcd2").check();
+
+        assertThat(new DejagnuLogChecker(logFile, "gcd2").check()).isEqualTo(expected);
+
+        // compressed logs cannot be memory-mapped and are streamed instead
+        final DejagnuLogChecker.Options parallelScan = new DejagnuLogChecker.Options(
+            2, Optional.empty(), Optional.empty(), false, 100, DejagnuLogChecker.Options.DEFAULT.rewriters(), false
+        );
+        assertThat(new DejagnuLogChecker(logFile, "gcd2", parallelScan).check()).isEqualTo(expected);
+
+        // compressed logs are complete, so they are read as a whole instead of being followed
+        final DejagnuLogChecker.Options follow = new DejagnuLogChecker.Options(
+            0, Optional.of(Duration.ofSeconds(10)), Optional.empty(), false, 100,
+            DejagnuLogChecker.Options.DEFAULT.rewriters(), false
+        );
+        assertThat(new DejagnuLogChecker(logFile, "gcd2", follow).check()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldParseLogFromStandardInput() throws Exception {
+        final CheckerResult expected = new DejagnuLogChecker(resource("dejagnu_logs/gcd.log"), "gcd").check();
+
+        final InputStream originalInput = System.in;
+        try (InputStream input = Files.newInputStream(resource("dejagnu_logs/gcd.log"))) {
+            System.setIn(input);
+            assertThat(new DejagnuLogChecker(Path.of("-"), "gcd").check()).isEqualTo(expected);
+        }
+        finally {
+            System.setIn(originalInput);
+        }
+    }
+
+    @Test
+    void shouldSplitLogIntoTestCases() throws Exception {
+        final DejagnuLogChecker.Options splitTestCases = new DejagnuLogChecker.Options(
+            0, Optional.empty(), Optional.empty(), true, 100, DejagnuLogChecker.Options.DEFAULT.rewriters(), false
+        );
+        final List<CheckerResult> results = new DejagnuLogChecker(
+            resource("dejagnu_logs/gcd_stacktrace.log"), "gcd", splitTestCases
+        ).checkAll();
+
+        assertThat(results.stream().map(CheckerResult::getName).toList()).containsExactly(
+            "gcd", "gcd-4_5", "gcd-91_21", "gcd-960_18", "gcd-1023_1", "gcd-9_0", "gcd-9"
+        ).inOrder();
+        assertThat(results.get(0).getMessage()).isEqualTo("""
+            5 of 6 test cases passed.
+            testcase ./gcd.tests/public.exp completed in 0 seconds""");
+
+        assertThat(results.get(1).isSuccessful()).isFalse();
+        assertThat(results.get(1).getMessage()).isEqualTo("""
+            spawn java -cp ../target/classes gcd.Shell
+            gcd> Running ./gcd.tests/public.exp ...
+            4 5
+            gcd(4, 5) = 1
+            Exception SomeException
+                at SomeLocation (34)
+                at SomeOtherLocation (12)
+            gcd> FAIL: 4 5 (expected "gcd(4, 5) = 1")""");
+        assertThat(results.get(2).isSuccessful()).isTrue();
+        assertThat(results.get(2).getMessage()).isEqualTo("91 21\ngcd(91, 21) = 7\ngcd> PASS: 91 21");
+    }
+
+    @Test
+    void shouldLimitResultsOfManyIdenticalTestCases(@TempDir Path dir) throws Exception {
+        final Path logFile = dir.resolve("many.log");
+        try (BufferedWriter writer = Files.newBufferedWriter(logFile)) {
+            writer.write("spawn java Shell\nPASS: same-3\n");
+            for (int i = 0; i < 10_000; ++i) {
+                writer.write(i % 2 == 0 ? "PASS: same\n" : "FAIL: same\n");
+            }
+            writer.write("\t\t=== Summary ===\n");
+        }
+        final DejagnuLogChecker.Options splitTestCases = new DejagnuLogChecker.Options(
+            0, Optional.empty(), Optional.empty(), true, 100, DejagnuLogChecker.Options.DEFAULT.rewriters(), false
+        );
+
+        final List<CheckerResult> results = new DejagnuLogChecker(logFile, "many", splitTestCases).checkAll();
+
+        assertThat(results).hasSize(101);
+        assertThat(results.get(0).isSuccessful()).isFalse();
+        assertThat(results.get(0).getMessage()).isEqualTo("""
+            5001 of 10001 test cases passed.
+            Only the first 100 test cases are reported separately.""");
+        final List<String> names = results.stream().map(CheckerResult::getName).toList();
+        assertThat(names.subList(0, 5)).containsExactly(
+            "many", "many-same-3", "many-same", "many-same-2", "many-same-4"
+        ).inOrder();
+        assertThat(names.get(100)).isEqualTo("many-same-100");
+        assertThat(names).containsNoDuplicates();
+    }
 }
@@ -6,17 +6,29 @@ package de.uni_passau.fim.se2.pipeline_helper.checkers;
 
 import static com.google.common.truth.Truth.assertThat;
 import static de.uni_passau.fim.se2.pipeline_helper.TestUtil.resource;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists.FileExistsChecker;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists.GlobRequirement;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
 class FileExistsCheckerTest {
 
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+
     @Test
     void shouldRecogniseExistingFiles() throws Exception {
         final FileExistsChecker checker = new FileExistsChecker(
@@ -66,18 +78,78 @@ class FileExistsCheckerTest {
     }
 
     @Test
-    void shouldRecogniseNonReadableFiles() throws Exception {
+    void shouldRecogniseWhitespaceFilesAsEmpty(@TempDir Path dir) throws Exception {
+        final Path spaces = Files.writeString(dir.resolve("spaces.txt"), " \t\r\n\u000b\f\u001f");
+        final Path unicodeSpaces = Files.writeString(dir.resolve("unicode.txt"), "\u2003 \u3000\u2028\n");
+        final Path longSpaces = Files.writeString(dir.resolve("long.txt"), "\u2003".repeat(10_000));
+        final FileExistsChecker checker = new FileExistsChecker(List.of(spaces, unicodeSpaces, longSpaces));
+
+        final CheckerResult result = checker.check();
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("""
+            Empty files:
+            spaces.txt
+            unicode.txt
+            long.txt""");
+    }
+
+    @Test
+    void shouldRecogniseContentAfterWhitespace(@TempDir Path dir) throws Exception {
+        final Path text = Files.writeString(dir.resolve("text.txt"), " ".repeat(20_000) + "x");
+        final Path nonBreakingSpace = Files.writeString(dir.resolve("nbsp.txt"), "\u00a0");
+        final Path binary = Files.write(dir.resolve("data.bin"), new byte[] { 0 });
+        final Path truncated = Files.write(dir.resolve("truncated.txt"), new byte[] { ' ', (byte) 0xe3, (byte) 0x80 });
+        final Path overlongSpace = Files.write(dir.resolve("overlong.txt"), new byte[] { (byte) 0xc0, (byte) 0xa0 });
         final FileExistsChecker checker = new FileExistsChecker(
             List.of(
+                text, nonBreakingSpace, binary, truncated, overlongSpace,
                 resource("line_length_checker_demo_files/illegal_byte_sequence/InvalidByteSequence.java")
             )
         );
 
+        final CheckerResult result = checker.check();
+        assertThat(result.isSuccessful()).isTrue();
+    }
+
+    @Test
+    void shouldRecogniseNonReadableFiles(@TempDir Path dir) throws Exception {
+        final Path file = Files.writeString(dir.resolve("secret.txt"), "content");
+        assumeTrue(file.toFile().setReadable(false) && !Files.isReadable(file), "file permissions are not enforced");
+
+        final FileExistsChecker checker = new FileExistsChecker(List.of(file));
+
         final CheckerResult result = checker.check();
         assertThat(result.isSuccessful()).isFalse();
         assertThat(result.getMessage()).isEqualTo("""
             Non-readable files:
-            InvalidByteSequence.java""");
+            secret.txt""");
+    }
+
+    @Test
+    void shouldRecogniseFilesFailingWhileReading(@TempDir Path dir) throws Exception {
+        // the attributes of a zip entry are read from the central directory, its corrupted data only when reading it
+        final String name = "secret.txt";
+        final Path zip = dir.resolve("corrupted.zip");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(zip))) {
+            output.putNextEntry(new ZipEntry(name));
+            output.write("content".repeat(100).getBytes(StandardCharsets.UTF_8));
+            output.closeEntry();
+        }
+        final byte[] bytes = Files.readAllBytes(zip);
+        // an invalid block type at the start of the deflated data following the local file header
+        final int dataStart = LOCAL_FILE_HEADER_LENGTH + name.length();
+        Arrays.fill(bytes, dataStart, dataStart + 4, (byte) 0xff);
+        Files.write(zip, bytes);
+
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(zip)) {
+            final FileExistsChecker checker = new FileExistsChecker(List.of(zipFileSystem.getPath(name)));
+
+            final CheckerResult result = checker.check();
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.getMessage()).isEqualTo("""
+                Non-readable files:
+                secret.txt""");
+        }
     }
 
     @Test
@@ -92,6 +164,74 @@ class FileExistsCheckerTest {
             src""");
     }
 
+    @Test
+    void shouldCheckFilesMatchingGlobs(@TempDir Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("src/a"));
+        Files.writeString(dir.resolve("src/a/ATest.java"), "class ATest {}");
+        Files.writeString(dir.resolve("src/BTest.java"), "");
+        Files.writeString(dir.resolve("src/Main.java"), "class Main {}");
+        final FileExistsChecker checker = new FileExistsChecker(
+            List.of(dir.resolve("src/Main.java")),
+            List.of(
+                GlobRequirement.parse(dir + "/src/**Test.java"),
+                GlobRequirement.parse(dir + "/src/*.java=..1"),
+                GlobRequirement.parse(dir + "/doc/*.md")
+            ),
+            2
+        );
+
+        final CheckerResult result = checker.check();
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("""
+            Empty files:
+            BTest.java
+
+            Unexpected numbers of matching files:
+            %1$s/src/*.java: found 2, expected at most 1
+            %1$s/doc/*.md: found 0, expected at least 1""".formatted(dir));
+    }
+
+    @Test
+    void shouldMatchLinkedFilesLikeFiles(@TempDir Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("src"));
+        Files.writeString(dir.resolve("target.txt"), " \n");
+        Files.createSymbolicLink(dir.resolve("src/link.txt"), dir.resolve("target.txt"));
+        Files.createSymbolicLink(dir.resolve("src/dangling.txt"), dir.resolve("missing.txt"));
+        final FileExistsChecker checker = new FileExistsChecker(
+            List.of(), List.of(GlobRequirement.parse(dir + "/src/*.txt=1")), 1
+        );
+
+        final CheckerResult result = checker.check();
+        assertThat(result.getMessage()).isEqualTo("Empty files:\nlink.txt");
+    }
+
+    @Test
+    void shouldAcceptMatchingGlobs() throws Exception {
+        final FileExistsChecker checker = new FileExistsChecker(
+            List.of(), List.of(GlobRequirement.parse("src/test/resources/dejagnu_logs/gcd*.log=2..")), 1
+        );
+
+        assertThat(checker.check().isSuccessful()).isTrue();
+    }
+
+    @Test
+    void shouldCheckFilesConcurrently() throws Exception {
+        final List<Path> files = List.of(
+            resource("empty.txt"), resource("dejagnu_logs/gcd.log"), Path.of("non-existing-file.txt"),
+            resource("dejagnu_logs/gcd2.log"), Path.of("src"), resource("dejagnu_logs/rev.log")
+        );
+
+        final CheckerResult result = new FileExistsChecker(files, List.of(), 4).check();
+        assertThat(result).isEqualTo(new FileExistsChecker(files).check());
+        assertThat(result.getMessage()).isEqualTo("""
+            Missing files:
+            non-existing-file.txt
+            src
+
+            Empty files:
+            empty.txt""");
+    }
+
     @Test
     void shouldRecogniseEmptyAndMissingAndNonReadableFiles() throws Exception {
         final FileExistsChecker checker = new FileExistsChecker(
@@ -111,9 +251,6 @@ class FileExistsCheckerTest {
             non-existing-file.txt
 
             Empty files:
-            empty.txt
-
-            Non-readable files:
-            InvalidByteSequence.java""");
+            empty.txt""");
     }
 }
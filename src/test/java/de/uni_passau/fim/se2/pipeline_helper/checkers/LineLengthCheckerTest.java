@@ -14,7 +14,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import de.uni_passau.fim.se2.pipeline_helper.checkers.line_length.LineLengthChecker;
-import de.uni_passau.fim.se2.pipeline_helper.helpers.FilteredFilesStream;
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileWalker;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
 class LineLengthCheckerTest {
@@ -30,7 +30,7 @@ class LineLengthCheckerTest {
     void checkFailedSingleViolation() throws Exception {
         Path invalidDir = dir.resolve("invalid/");
         final LineLengthChecker checker = new LineLengthChecker(
-            invalidDir, FilteredFilesStream.files(invalidDir, "java"), 80
+            invalidDir, FileWalker.files(invalidDir, "java"), 80
         );
         final CheckerResult result = checker.check();
         assertThat(result.getName()).contains("LineLengthChecker");
@@ -48,7 +48,7 @@ class LineLengthCheckerTest {
     void checkFailedDifferentFiles() throws Exception {
         Path invalidDir = dir.resolve("invalid/");
         final LineLengthChecker checker = new LineLengthChecker(
-            invalidDir, FilteredFilesStream.files(invalidDir, "java"), 80
+            invalidDir, FileWalker.files(invalidDir, "java"), 80
         );
         final CheckerResult result = checker.check();
         assertThat(result.getName()).contains("LineLengthChecker");
@@ -68,24 +68,91 @@ class LineLengthCheckerTest {
         );
     }
 
+    @Test
+    void checkFailedConcurrentlyInPathOrder() throws Exception {
+        Path invalidDir = dir.resolve("invalid/");
+        final CheckerResult expected = new LineLengthChecker(
+            invalidDir, FileWalker.files(invalidDir, "java"), 80
+        ).check();
+        final LineLengthChecker checker = new LineLengthChecker(
+            invalidDir, FileWalker.files(invalidDir, "java"), 80,
+            new LineLengthChecker.Options(4, Integer.MAX_VALUE, Integer.MAX_VALUE, false)
+        );
+        final CheckerResult result = checker.check();
+        assertThat(result).isEqualTo(expected);
+        assertThat(result.getMessage().indexOf("InvalidFile.java"))
+            .isLessThan(result.getMessage().indexOf("InvalidFileSingleViolation.java"));
+    }
+
+    @Test
+    void checkFailedWithLimitedViolations() throws Exception {
+        Path invalidDir = dir.resolve("invalid/");
+        final LineLengthChecker checker = new LineLengthChecker(
+            invalidDir, FileWalker.files(invalidDir, "java"), 10, new LineLengthChecker.Options(1, 3, 4, false)
+        );
+        final CheckerResult result = checker.check();
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getMessage()).containsMatch(
+            withNormalisedNewline(
+                "InvalidFile.java, on \\d+ lines:\n(    -> line \\d+, length \\d+\n){3}    -> and \\d+ more\n"
+            )
+        );
+        assertThat(result.getMessage()).containsMatch(
+            withNormalisedNewline(
+                "InvalidFileSingleViolation.java, on \\d+ lines:\n    -> line \\d+, length \\d+\n    -> and \\d+ more$"
+            )
+        );
+    }
+
+    @Test
+    void checkFailedWithGroupedConsecutiveLines() throws Exception {
+        Path invalidDir = dir.resolve("invalid/");
+        final LineLengthChecker checker = new LineLengthChecker(
+            invalidDir, FileWalker.files(invalidDir, "java"), 30,
+            new LineLengthChecker.Options(1, Integer.MAX_VALUE, Integer.MAX_VALUE, true)
+        );
+        final CheckerResult result = checker.check();
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getMessage()).contains(
+            withNormalisedNewline(
+                """
+                    InvalidFile.java, on 6 lines:
+                        -> line 1, length 60
+                        -> line 3, length 36
+                        -> lines 6-7, max length 82
+                        -> lines 10-11, max length 99
+                    """
+            )
+        );
+    }
+
+    @Test
+    void checkIllegalByteSequence() throws Exception {
+        Path illegalByteSeqDir = dir.resolve("illegal_byte_sequence/");
+        final LineLengthChecker checker = new LineLengthChecker(
+            illegalByteSeqDir, FileWalker.files(illegalByteSeqDir, "java"), 80
+        );
+        final CheckerResult result = checker.check();
+        assertThat(result).isEqualTo(new CheckerResult("LineLengthChecker", true));
+    }
+
     @Test
     void checkFailedIllegalByteSequence() throws Exception {
         Path illegalByteSeqDir = dir.resolve("illegal_byte_sequence/");
         final LineLengthChecker checker = new LineLengthChecker(
-            illegalByteSeqDir, FilteredFilesStream.files(illegalByteSeqDir, "java"), 80
+            illegalByteSeqDir, FileWalker.files(illegalByteSeqDir, "java"), 1
         );
         final CheckerResult result = checker.check();
         assertThat(result.getName()).contains("LineLengthChecker");
         assertThat(result.isSuccessful()).isFalse();
-        assertThat(result.getMessage()).startsWith("Cannot read file ");
-        assertThat(result.getMessage()).endsWith("InvalidByteSequence.java");
+        assertThat(result.getMessage()).endsWith("-> line 5, length 2");
     }
 
     @Test
     void checkSuccess() throws Exception {
         Path validDir = dir.resolve("valid/");
         final LineLengthChecker checker = new LineLengthChecker(
-            validDir, FilteredFilesStream.files(validDir, "java"), 80
+            validDir, FileWalker.files(validDir, "java"), 80
         );
         final CheckerResult result = checker.check();
         final CheckerResult expectedResult = new CheckerResult("LineLengthChecker", true);
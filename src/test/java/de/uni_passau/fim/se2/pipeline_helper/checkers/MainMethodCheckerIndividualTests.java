@@ -24,8 +24,10 @@ import javax.tools.ToolProvider;
 
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileIndex;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
@@ -42,12 +44,18 @@ public class MainMethodCheckerIndividualTests {
             .filter(p -> p.toString().endsWith(".java") && !p.getFileName().toString().equals("package-info.java"));
     }
 
-    private static Stream<Path> getValidSources() throws IOException {
-        return getStream(VALID_DIR);
+    private static Stream<Arguments> withEngines(Stream<Path> sources) {
+        return sources.flatMap(
+            source -> Arrays.stream(MainMethodChecker.Engine.values()).map(engine -> Arguments.of(source, engine))
+        );
     }
 
-    private static Stream<Path> getInvalidSources() throws IOException {
-        return getStream(INVALID_DIR);
+    private static Stream<Arguments> getValidSources() throws IOException {
+        return withEngines(getStream(VALID_DIR));
+    }
+
+    private static Stream<Arguments> getInvalidSources() throws IOException {
+        return withEngines(getStream(INVALID_DIR));
     }
 
     private static void compile(Path source, Path outputDirectory) throws IOException {
@@ -78,24 +86,26 @@ public class MainMethodCheckerIndividualTests {
         }
     }
 
-    private static CheckerResult copyCompileAndCheck(Path sourceFile, Path tempDir)
+    private static CheckerResult copyCompileAndCheck(Path sourceFile, MainMethodChecker.Engine engine, Path tempDir)
         throws IOException, CheckerException {
         compile(sourceFile, tempDir);
-        MainMethodChecker checker = new MainMethodChecker(tempDir);
+        MainMethodChecker checker = new MainMethodChecker(tempDir, new FileIndex(), 1, engine);
         return checker.check();
     }
 
-    @ParameterizedTest(name = "[INVALID] {0}")
+    @ParameterizedTest(name = "[INVALID] {0} ({1})")
     @MethodSource("getInvalidSources")
-    void shouldRejectInvalidMainMethod(Path sourceFile, @TempDir Path tempDir) throws IOException, CheckerException {
-        CheckerResult result = copyCompileAndCheck(sourceFile, tempDir);
+    void shouldRejectInvalidMainMethod(Path sourceFile, MainMethodChecker.Engine engine, @TempDir Path tempDir)
+        throws IOException, CheckerException {
+        CheckerResult result = copyCompileAndCheck(sourceFile, engine, tempDir);
         assertFalse(result.isSuccessful());
     }
 
-    @ParameterizedTest(name = "[VALID] {0}")
+    @ParameterizedTest(name = "[VALID] {0} ({1})")
     @MethodSource("getValidSources")
-    void shouldAcceptValidMainMethod(Path sourceFile, @TempDir Path tempDir) throws IOException, CheckerException {
-        CheckerResult result = copyCompileAndCheck(sourceFile, tempDir);
+    void shouldAcceptValidMainMethod(Path sourceFile, MainMethodChecker.Engine engine, @TempDir Path tempDir)
+        throws IOException, CheckerException {
+        CheckerResult result = copyCompileAndCheck(sourceFile, engine, tempDir);
         assertTrue(result.isSuccessful());
     }
 }
@@ -7,10 +7,18 @@ package de.uni_passau.fim.se2.pipeline_helper.checkers;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import de.uni_passau.fim.se2.pipeline_helper.helpers.FileIndex;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerException;
 import de.uni_passau.fim.se2.pipeline_helper.model.CheckerResult;
 
@@ -48,6 +56,58 @@ class MainMethodCheckerTest {
         );
     }
 
+    @Test
+    void checkerMultipleMainMethodsWithConcurrentSearch() throws CheckerException {
+        final CheckerResult expectedResult = new MainMethodChecker(Path.of("target/test-classes/")).check();
+        final CheckerResult result = new MainMethodChecker(Path.of("target/test-classes/"), 4).check();
+
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MainMethodChecker.Engine.class)
+    void checkerReportsClassesInSortedOrderWithConcurrentAnalysis(final MainMethodChecker.Engine engine)
+        throws CheckerException {
+        final CheckerResult result = new MainMethodChecker(
+            Path.of("target/test-classes/"), new FileIndex(), 4, engine
+        ).check();
+        final List<String> classes = result.getMessage().lines().skip(1)
+            .map(line -> line.replaceFirst(" \\(x[0-9]+\\)$", ""))
+            .toList();
+
+        assertAll(
+            () -> assertThat(classes).isNotEmpty(),
+            () -> assertThat(classes).isInStrictOrder()
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "target/classes/", "target/test-classes/", "target/" })
+    void checkerClassFileEngineFindsSameMainMethods(final String classpath) throws CheckerException {
+        final CheckerResult expectedResult = new MainMethodChecker(Path.of(classpath)).check();
+        final CheckerResult result = new MainMethodChecker(
+            Path.of(classpath), new FileIndex(), 1, MainMethodChecker.Engine.CLASS_FILE
+        ).check();
+
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void checkerClassFileEngineWithMissingSuperclass(@TempDir final Path classpath)
+        throws CheckerException, IOException {
+        final String className = "de/uni_passau/fim/se2/pipeline_helper/checkers/main_method_examples/valid/"
+            + "SubClassFromAbstract";
+        final Path classFile = classpath.resolve(className + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.copy(Path.of("target/test-classes").resolve(className + ".class"), classFile);
+
+        final CheckerResult result = new MainMethodChecker(
+            classpath, new FileIndex(), 1, MainMethodChecker.Engine.CLASS_FILE
+        ).check();
+
+        assertThat(result.getMessage()).isEqualTo("Found main method in " + className.replace('/', '.'));
+    }
+
     @Test
     void checkerNoMainMethods() throws CheckerException {
         final MainMethodChecker checker = new MainMethodChecker(Path.of("target/"));
@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+class ChunkedDejagnuLogReaderTest {
+
+    private static final List<String> LINES = List.of(
+        "spawn shell", "spawn other", "PASS: a", "FAIL: b", "\tat Main.main", "got a TERM signal, terminated",
+        "\t\t=== Summary ===", "# of expected passes\t1", "# of unexpected failures\t1", "ä", "", "x".repeat(40)
+    );
+    private static final List<String> TERMINATORS = List.of("\n", "\r", "\r\n");
+
+    @TempDir
+    Path tempDir;
+
+    private static DejagnuLog stream(final Path logFile, final int headLength, final int tailLength)
+        throws IOException {
+        final DejagnuLogParser parser = new DejagnuLogParser(headLength, tailLength);
+        try (InputStream input = Files.newInputStream(logFile)) {
+            new DejagnuLogScanner(parser).scan(input);
+        }
+        return parser.finish();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "gcd.log, 1", "gcd2.log, 7", "gcd_stacktrace.log, 64", "gcd_timeout.log, 100", "rev.log, 4096",
+        "sweep.log, 33"
+    })
+    void shouldExtractSameLogAsStreamingParser(final String logName, final long chunkSize) throws IOException {
+        final Path logFile = Path.of("src/test/resources/dejagnu_logs", logName);
+
+        final DejagnuLog chunked = new ChunkedDejagnuLogReader(
+            4, chunkSize, 300, 200, DejagnuLogParser.DEFAULT_REWRITERS
+        ).read(logFile);
+
+        assertThat(chunked).isEqualTo(stream(logFile, 300, 200));
+    }
+
+    @Test
+    void shouldExtractSameLogAsStreamingParserForRandomLogs() throws IOException {
+        final Random random = new Random(42);
+        final Path logFile = tempDir.resolve("random.log");
+
+        for (int i = 0; i < 500; ++i) {
+            final StringBuilder log = new StringBuilder();
+            final int lineCount = random.nextInt(30);
+            for (int line = 0; line < lineCount; ++line) {
+                log.append(LINES.get(random.nextInt(LINES.size())));
+                if (line < lineCount - 1 || random.nextBoolean()) {
+                    log.append(TERMINATORS.get(random.nextInt(TERMINATORS.size())));
+                }
+            }
+            Files.writeString(logFile, log, StandardCharsets.UTF_8);
+
+            final int headLength = 1 + random.nextInt(60);
+            final int tailLength = 2 + random.nextInt(60);
+            final ChunkedDejagnuLogReader reader = new ChunkedDejagnuLogReader(
+                3, 1 + random.nextInt(50), headLength, tailLength, DejagnuLogParser.DEFAULT_REWRITERS
+            );
+
+            DejagnuLog expected;
+            try {
+                expected = stream(logFile, headLength, tailLength);
+            }
+            catch (IllegalArgumentException e) {
+                assertThrows(IllegalArgumentException.class, () -> reader.read(logFile), log.toString());
+                continue;
+            }
+            assertThat(reader.read(logFile)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldRejectEmptyLog() throws IOException {
+        final Path logFile = Files.createFile(tempDir.resolve("empty.log"));
+
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedDejagnuLogReader(2, List.of()).read(logFile));
+    }
+}
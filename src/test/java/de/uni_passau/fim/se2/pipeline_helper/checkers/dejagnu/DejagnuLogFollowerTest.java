@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+class DejagnuLogFollowerTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration PAUSE = POLL_INTERVAL.multipliedBy(30);
+
+    @TempDir
+    Path tempDir;
+
+    private static DejagnuLog stream(final Path logFile) throws IOException {
+        final DejagnuLogParser parser = new DejagnuLogParser();
+        try (InputStream input = Files.newInputStream(logFile)) {
+            new DejagnuLogScanner(parser).scan(input);
+        }
+        return parser.finish();
+    }
+
+    private static DejagnuLogFollower follower(final Duration idleTimeout) {
+        return new DejagnuLogFollower(idleTimeout, Optional.empty(), POLL_INTERVAL);
+    }
+
+    /**
+     * Writes the parts of a log one after another, pausing between them.
+     */
+    private static Thread startWriter(final Path logFile, final String... parts) {
+        final Thread writer = new Thread(() -> {
+            try (OutputStream output = Files.newOutputStream(logFile)) {
+                for (int i = 0; i < parts.length; ++i) {
+                    if (i > 0) {
+                        Thread.sleep(PAUSE.toMillis());
+                    }
+                    output.write(parts[i].getBytes(StandardCharsets.UTF_8));
+                    output.flush();
+                }
+            }
+            catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        writer.start();
+        return writer;
+    }
+
+    @Test
+    void shouldFollowGrowingLogUntilRuntestCompleted() throws Exception {
+        final Path source = Path.of("src/test/resources/dejagnu_logs/gcd.log");
+        final Path logFile = tempDir.resolve("gcd.log");
+        final byte[] content = Files.readAllBytes(source);
+
+        final Thread writer = new Thread(() -> {
+            try (OutputStream output = Files.newOutputStream(logFile)) {
+                final int parts = 5;
+                for (int i = 0; i < parts; ++i) {
+                    final int from = content.length * i / parts;
+                    output.write(content, from, content.length * (i + 1) / parts - from);
+                    output.flush();
+                    Thread.sleep(3 * POLL_INTERVAL.toMillis());
+                }
+            }
+            catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        writer.start();
+
+        final Optional<DejagnuLog> log = follower(Duration.ofSeconds(10)).follow(logFile, new DejagnuLogParser());
+        writer.join();
+
+        assertThat(log).hasValue(stream(source));
+    }
+
+    @Test
+    void shouldWaitForStatisticsAfterSummary() throws Exception {
+        final Path logFile = tempDir.resolve("statistics.log");
+        final Thread writer = startWriter(
+            logFile,
+            "spawn shell\nPASS: 1\n\n\t\t=== Summary ===\n",
+            "\n# of expected passes\t\t1\nruntest completed at Tue Dec  1 15:23:51 2020\n"
+        );
+
+        final Optional<DejagnuLog> log = follower(Duration.ofSeconds(10)).follow(logFile, new DejagnuLogParser());
+        writer.join();
+
+        assertThat(log).isPresent();
+        assertThat(log.get().hasPassingTests()).isTrue();
+    }
+
+    @Test
+    void shouldFinishTerminatedRunOnceSummaryFollows() throws Exception {
+        final Path source = Path.of("src/test/resources/dejagnu_logs/gcd_timeout.log");
+        final Path logFile = tempDir.resolve("gcd_timeout.log");
+        final String content = Files.readString(source);
+        final int summary = content.indexOf("got a TERM signal") + "got a TERM signal, terminated\n".length();
+        final Thread writer = startWriter(logFile, content.substring(0, summary), content.substring(summary));
+
+        // the default timeouts of the command line, the log has no completion line
+        final Duration idleTimeout = Duration.ofSeconds(300);
+        final long start = System.nanoTime();
+        final Optional<DejagnuLog> log = new DejagnuLogFollower(idleTimeout, Optional.empty())
+            .follow(logFile, new DejagnuLogParser());
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        writer.join();
+
+        assertThat(log).hasValue(stream(source));
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldKeepFollowingAfterFirstOfMultipleSummaries() throws Exception {
+        final Path logFile = tempDir.resolve("multiple.log");
+        final Thread writer = startWriter(
+            logFile,
+            "spawn first\nPASS: 1\n\t\t=== first Summary ===\n",
+            "spawn second\nFAIL: 2\n\t\t=== second Summary ===\nruntest completed at Tue Dec  1 15:23:51 2020\n"
+        );
+
+        final Optional<DejagnuLog> log = follower(Duration.ofSeconds(10)).follow(logFile, new DejagnuLogParser());
+        writer.join();
+
+        assertThat(log).isPresent();
+        assertThat(log.get().hasFailures()).isTrue();
+        assertThat(log.get().log()).endsWith("FAIL: 2");
+    }
+
+    @Test
+    void shouldFinishAfterSummaryGraceOfIncompleteRun() throws Exception {
+        final Path logFile = tempDir.resolve("gcd2.log");
+        Files.copy(Path.of("src/test/resources/dejagnu_logs/gcd2.log"), logFile);
+
+        final Optional<DejagnuLog> log = new DejagnuLogFollower(
+            Duration.ofSeconds(10), Optional.of(POLL_INTERVAL.multipliedBy(3)), POLL_INTERVAL
+        ).follow(logFile, new DejagnuLogParser());
+
+        assertThat(log).hasValue(stream(logFile));
+    }
+
+    @Test
+    void shouldFinishSummarisedLogAfterIdleTimeout() throws Exception {
+        final Path logFile = tempDir.resolve("gcd2.log");
+        Files.copy(Path.of("src/test/resources/dejagnu_logs/gcd2.log"), logFile);
+
+        final Optional<DejagnuLog> log = follower(Duration.ofMillis(50)).follow(logFile, new DejagnuLogParser());
+
+        assertThat(log).hasValue(stream(logFile));
+    }
+
+    @Test
+    void shouldRejectCompressedLog() throws IOException {
+        final Path logFile = tempDir.resolve("gcd.log.gz");
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(logFile))) {
+            Files.copy(Path.of("src/test/resources/dejagnu_logs/gcd.log"), output);
+        }
+
+        final DejagnuLogFollower follower = follower(Duration.ofSeconds(10));
+
+        final IOException e = assertThrows(IOException.class, () -> follower.follow(logFile, new DejagnuLogParser()));
+        assertThat(e).hasMessageThat().startsWith("Compressed log files cannot be followed");
+    }
+
+    @Test
+    void shouldGiveUpIfLogIsNotCreated() throws Exception {
+        final Optional<DejagnuLog> log = follower(Duration.ofMillis(50))
+            .follow(tempDir.resolve("missing.log"), new DejagnuLogParser());
+
+        assertThat(log).isEmpty();
+    }
+
+    @Test
+    void shouldGiveUpOnIdleUnfinishedLog() throws IOException {
+        final Path logFile = Files.writeString(tempDir.resolve("unfinished.log"), "spawn shell\nPASS: 1\n");
+
+        final DejagnuLogFollower follower = follower(Duration.ofMillis(50));
+
+        assertThrows(IllegalArgumentException.class, () -> follower.follow(logFile, new DejagnuLogParser()));
+    }
+}
@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+class DejagnuLogParserTest {
+
+    private static DejagnuLog parse(final DejagnuLogParser parser, final String log) {
+        log.lines().forEach(parser::accept);
+        return parser.finish();
+    }
+
+    @Test
+    void shouldKeepShortLogCompletely() {
+        final DejagnuLog log = parse(new DejagnuLogParser(100, 100), """
+            spawn shell
+            PASS: 1
+            \t\t=== Summary ===
+            # of expected passes\t\t1""");
+
+        assertThat(log.log()).isEqualTo("spawn shell\nPASS: 1");
+        assertThat(log.hasPassingTests()).isTrue();
+        assertThat(log.hasFailures()).isFalse();
+    }
+
+    @Test
+    void shouldOmitLinesBetweenHeadAndTail() {
+        final DejagnuLog log = parse(new DejagnuLogParser(20, 14), """
+            spawn shell
+            line 1
+            line 2
+            line 3
+            line 4
+            line 5
+            \t\t=== Summary ===""");
+
+        assertThat(log.log()).isEqualTo("""
+            spawn shell
+            line 1
+            [... 2 lines omitted ...]
+            line 4
+            line 5""");
+    }
+
+    @Test
+    void shouldNotCountTentativeLinesAfterLastSummary() {
+        final DejagnuLog log = parse(new DejagnuLogParser(20, 14), """
+            spawn shell
+            line 1
+            line 2
+            line 3
+            \t\t=== Summary ===
+            line 4
+            line 5
+            line 6
+            line 7""");
+
+        assertThat(log.log()).isEqualTo("""
+            spawn shell
+            line 1
+            line 2
+            line 3""");
+    }
+
+    @Test
+    void shouldReplaceTailIfTentativeLinesOverflowed() {
+        final DejagnuLog log = parse(new DejagnuLogParser(20, 14), """
+            spawn shell
+            line 1
+            line 2
+            \t\t=== first Summary ===
+            line 3
+            line 4
+            line 5
+            \t\t=== second Summary ===""");
+
+        assertThat(log.log()).isEqualTo("""
+            spawn shell
+            line 1
+            [... 3 lines omitted ...]
+            line 4
+            line 5""");
+    }
+
+    @Test
+    void shouldCutLinesLongerThanTail() {
+        final DejagnuLog log = parse(new DejagnuLogParser(12, 8), """
+            spawn shell
+            0123456789abcdef
+            \t\t=== Summary ===""");
+
+        assertThat(log.log()).isEqualTo("spawn shell\n0123456");
+    }
+}
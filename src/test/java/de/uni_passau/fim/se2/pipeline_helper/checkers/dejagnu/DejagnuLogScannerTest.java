@@ -0,0 +1,66 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+class DejagnuLogScannerTest {
+
+    private static DejagnuLog scan(final String log, final int bufferSize, final int maxLineLength)
+        throws IOException {
+        final DejagnuLogParser parser = new DejagnuLogParser();
+        new DejagnuLogScanner(parser, bufferSize, maxLineLength)
+            .scan(new ByteArrayInputStream(log.getBytes(StandardCharsets.UTF_8)));
+        return parser.finish();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7, 1024 })
+    void shouldSplitLinesLikeBufferedReader(final int bufferSize) throws IOException {
+        final DejagnuLog log = scan(
+            "Test run\r\nspawn shell\rPASS: ä\r\n\r\nFAIL: ö\n\t\t=== Summary ===\r\n# of expected passes\t1",
+            bufferSize, 1024
+        );
+
+        assertThat(log.log()).isEqualTo("spawn shell\nPASS: ä\n\nFAIL: ö");
+        assertThat(log.hasPassingTests()).isTrue();
+        assertThat(log.hasFailures()).isTrue();
+        assertThat(log.hasBeenTerminated()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 5, 1024 })
+    void shouldFindMarkersInCutOffPartOfLongLines(final int bufferSize) throws IOException {
+        final DejagnuLog log = scan(
+            "spawn shell\n" + "x".repeat(100) + "got a TERM signal, terminated\n" + "y".repeat(100) + "Summary ===\n",
+            bufferSize, 11
+        );
+
+        assertThat(log.log()).isEqualTo("spawn shell\nxxxxxxxxxxx");
+        assertThat(log.hasBeenTerminated()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "xspawn a", "FAIL", " FAIL: a", "Summary === ", "# of expected passe", "a spawn b" })
+    void shouldOnlyMatchAnchoredMarkers(final String line) {
+        final int markers = DejagnuMarker.find(line);
+
+        for (final DejagnuMarker marker : List.of(
+            DejagnuMarker.SPAWN, DejagnuMarker.SUMMARY, DejagnuMarker.PASSES, DejagnuMarker.FAILURES
+        )) {
+            assertThat(marker.isIn(markers)).isFalse();
+        }
+    }
+}
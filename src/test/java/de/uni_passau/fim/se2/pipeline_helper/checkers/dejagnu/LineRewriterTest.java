@@ -0,0 +1,85 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+
+class LineRewriterTest {
+
+    @ParameterizedTest
+    @EnumSource(BuiltInRewriter.class)
+    void shouldNotCopyUnaffectedLines(final BuiltInRewriter rewriter) {
+        final String line = "gcd> PASS: 4 5\tat the end";
+
+        assertThat(rewriter.rewrite(line)).isSameInstanceAs(line);
+    }
+
+    @Test
+    void shouldIndentStackTraceWithSpaces() {
+        assertThat(BuiltInRewriter.STACK_TRACES.rewrite("\tat Main.main(Main.java:3)\tat"))
+            .isEqualTo("    at Main.main(Main.java:3)\tat");
+    }
+
+    @Test
+    void shouldRemoveAnsiEscapeSequences() {
+        final String line = "\u001b[1;31mFAIL\u001b[0m: a \u001b]0;title\u0007done\u001b(B\u001b[";
+
+        assertThat(BuiltInRewriter.ANSI_ESCAPES.rewrite(line)).isEqualTo("FAIL: a done");
+    }
+
+    @Test
+    void shouldMakeSandboxPathsRelative() {
+        final Path source = Path.of("src", "Main.java");
+
+        assertThat(BuiltInRewriter.SANDBOX_PATHS.rewrite("at " + source.toAbsolutePath() + ":3"))
+            .isEqualTo("at " + source + ":3");
+    }
+
+    @Test
+    void shouldRemoveControlCharactersExceptTabs() {
+        assertThat(BuiltInRewriter.CONTROL_CHARACTERS.rewrite("a\u0000b\tc\u0008\u007f\u0085d"))
+            .isEqualTo("ab\tcd");
+    }
+
+    @Test
+    void shouldReplaceLiteralText() {
+        final LiteralRewriter rewriter = LiteralRewriter.parse("/home/student=~=");
+
+        assertThat(rewriter.rewrite("/home/student/a /home/student/b")).isEqualTo("~=/a ~=/b");
+    }
+
+    @Test
+    void shouldRejectInvalidLiteralRules() {
+        assertThrows(IllegalArgumentException.class, () -> LiteralRewriter.parse("no separator"));
+        assertThrows(IllegalArgumentException.class, () -> LiteralRewriter.parse("=empty"));
+    }
+
+    @Test
+    void shouldApplyRewritersInOrder() {
+        final DejagnuLogParser parser = new DejagnuLogParser(
+            List.of(BuiltInRewriter.ANSI_ESCAPES, BuiltInRewriter.STACK_TRACES, LiteralRewriter.parse("at=AT")),
+            false,
+            TestCaseSplitter.DEFAULT_MAX_TEST_CASES,
+            false
+        );
+        """
+            spawn shell
+            \u001b[2m\tat Main.main\u001b[0m
+            \t\t=== Summary ===""".lines().forEach(parser::accept);
+        final DejagnuLog log = parser.finish();
+
+        assertThat(log.log()).isEqualTo("spawn shell\n    AT Main.main");
+    }
+}
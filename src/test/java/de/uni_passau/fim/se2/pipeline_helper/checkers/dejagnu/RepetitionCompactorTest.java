@@ -0,0 +1,159 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class RepetitionCompactorTest {
+
+    private static final Pattern MARKER = Pattern.compile(
+        "\\[\\.\\.\\. previous (?:(\\d+) lines|line) repeated (\\d+) times \\.\\.\\.]"
+    );
+
+    private static List<String> compact(final String... lines) {
+        final List<String> output = new ArrayList<>();
+        final RepetitionCompactor compactor = new RepetitionCompactor(output::add);
+        for (final String line : lines) {
+            compactor.accept(line);
+        }
+        compactor.flush();
+        return output;
+    }
+
+    private static List<String> expand(final List<String> compacted) {
+        final List<String> lines = new ArrayList<>();
+        for (final String line : compacted) {
+            final Matcher marker = MARKER.matcher(line);
+            if (!marker.matches()) {
+                lines.add(line);
+                continue;
+            }
+
+            final int period = marker.group(1) == null ? 1 : Integer.parseInt(marker.group(1));
+            final List<String> cycle = List.copyOf(lines.subList(lines.size() - period, lines.size()));
+            for (int i = Integer.parseInt(marker.group(2)); i > 0; --i) {
+                lines.addAll(cycle);
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    void shouldKeepFewRepetitions() {
+        assertThat(compact("a", "", "", "", "b", "a", "b", "a", "b")).containsExactly(
+            "a", "", "", "", "b", "a", "b", "a", "b"
+        ).inOrder();
+    }
+
+    @Test
+    void shouldFoldRepeatedLine() {
+        assertThat(compact("start", "a", "a", "a", "a", "a", "end")).containsExactly(
+            "start", "a", "[... previous line repeated 4 times ...]", "end"
+        ).inOrder();
+    }
+
+    @Test
+    void shouldFoldRepeatedCycleWithIncompleteLastRepetition() {
+        assertThat(compact("x", "a", "b", "c", "a", "b", "c", "a", "b", "c", "a", "b", "c", "a", "b", "d"))
+            .containsExactly("x", "a", "b", "c", "[... previous 3 lines repeated 3 times ...]", "a", "b", "d")
+            .inOrder();
+    }
+
+    @Test
+    void shouldFoldRepetitionAtEnd() {
+        assertThat(compact("a", "b", "a", "b", "a", "b", "a", "b", "a", "b")).containsExactly(
+            "a", "b", "[... previous 2 lines repeated 4 times ...]"
+        ).inOrder();
+    }
+
+    @Test
+    void shouldNotFoldLinesAcrossFoldedRepetition() {
+        assertThat(compact("a", "a", "a", "a", "b", "a", "a", "a", "a")).containsExactly(
+            "a", "[... previous line repeated 3 times ...]", "b", "a", "[... previous line repeated 3 times ...]"
+        ).inOrder();
+    }
+
+    @Test
+    void shouldFoldLinesOnlyDifferingInNumbers() {
+        final String[] lines = new String[100];
+        for (int i = 0; i < lines.length; ++i) {
+            lines[i] = "i = %d at 0x%x, Object@%08x".formatted(i, 0x7ffe0000 + i * 16, i * 7919);
+        }
+
+        assertThat(compact(lines)).containsExactly(
+            "i = 0 at 0x7ffe0000, Object@00000000", "[... previous line repeated 99 times with different numbers ...]"
+        ).inOrder();
+    }
+
+    @Test
+    void shouldFoldCycleWithVaryingNumbersOnlyAfterExactRepetitions() {
+        assertThat(compact("x", "a", "a", "a", "a", "a 1", "b 1", "c", "b 2", "c", "b 3", "c", "b 4", "c"))
+            .containsExactly(
+                "x", "a", "[... previous line repeated 3 times ...]", "a 1", "b 1", "c",
+                "[... previous 2 lines repeated 3 times with different numbers ...]"
+            ).inOrder();
+    }
+
+    @Test
+    void shouldMaskNumbers() {
+        assertThat(RepetitionCompactor.maskNumbers("no numbers, deadbeef")).isEqualTo("no numbers, deadbeef");
+        assertThat(RepetitionCompactor.maskNumbers("12:03:44.5 x1 0xCAFE abc1 1e5 v2_3"))
+            .isEqualTo("#:#:#.# x1 # # # v2_3");
+    }
+
+    @Test
+    void shouldPassOnLinesThatNeverRepeatLongEnough() {
+        // the Thue-Morse sequence never repeats any part of it three times in a row
+        final String[] lines = new String[1_000];
+        for (int i = 0; i < lines.length; ++i) {
+            lines[i] = Integer.bitCount(i) % 2 == 0 ? "a" : "b";
+        }
+
+        assertThat(compact(lines)).containsExactlyElementsIn(lines).inOrder();
+    }
+
+    @Test
+    void shouldFoldRepetitionsInLogWindow() {
+        final LogWindow window = new LogWindow(100, 100, true);
+        for (int i = 0; i < 1_000_000; ++i) {
+            window.append("loop");
+        }
+        window.commit();
+        window.append("uncommitted");
+
+        assertThat(window.build()).isEqualTo("loop\n[... previous line repeated 999999 times ...]");
+    }
+
+    @Test
+    void shouldKeepAllInformationOfRandomLines() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 1_000; ++i) {
+            final List<String> lines = new ArrayList<>();
+            while (lines.size() < 200) {
+                final List<String> cycle = new ArrayList<>();
+                for (int length = 1 + random.nextInt(10); length > 0; --length) {
+                    cycle.add(String.valueOf((char) ('a' + random.nextInt(3))));
+                }
+                for (int repeats = random.nextInt(8); repeats >= 0; --repeats) {
+                    lines.addAll(cycle);
+                }
+            }
+
+            final List<String> compacted = compact(lines.toArray(String[]::new));
+
+            assertThat(compacted.size()).isAtMost(lines.size());
+            assertThat(expand(compacted)).containsExactlyElementsIn(lines).inOrder();
+        }
+    }
+}
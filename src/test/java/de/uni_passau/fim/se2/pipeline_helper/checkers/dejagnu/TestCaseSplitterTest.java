@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.DejagnuLogParser.DejagnuLog;
+import de.uni_passau.fim.se2.pipeline_helper.checkers.dejagnu.TestCaseSplitter.TestCase;
+
+class TestCaseSplitterTest {
+
+    private static DejagnuLog split(final TestCaseSplitter splitter, final String log) {
+        final DejagnuLogParser parser = new DejagnuLogParser(splitter);
+        log.lines().forEach(parser::accept);
+        return parser.finish();
+    }
+
+    @Test
+    void shouldTreatExpectedOutcomesAccordingly() {
+        final DejagnuLog log = split(new TestCaseSplitter(), """
+            spawn shell
+            XFAIL: known bug
+            XPASS: fixed bug
+            shell> FAIL: wrong (expected right)
+            \t\t=== Summary ===""");
+
+        assertThat(log.testCases()).containsExactly(
+            new TestCase("known bug", true, "spawn shell\nXFAIL: known bug"),
+            new TestCase("fixed bug", false, "XPASS: fixed bug"),
+            new TestCase("wrong", false, "shell> FAIL: wrong (expected right)")
+        ).inOrder();
+        assertThat(log.log()).isEmpty();
+    }
+
+    @Test
+    void shouldDropOutputWithoutOutcomeBeforeSpawn() {
+        final DejagnuLog log = split(new TestCaseSplitter(), """
+            spawn first
+            crashed
+            spawn second
+            PASS: second
+            hanging
+            \t\t=== Summary ===""");
+
+        assertThat(log.testCases()).containsExactly(new TestCase("second", true, "spawn second\nPASS: second"));
+        assertThat(log.log()).isEqualTo("hanging");
+    }
+
+    @Test
+    void shouldOnlyKeepTestCasesBeforeLastSummary() {
+        final DejagnuLog log = split(new TestCaseSplitter(), """
+            spawn first
+            PASS: one
+            remainder
+            \t\t=== first Summary ===
+            PASS: two
+            \t\t=== second Summary ===
+            PASS: three""");
+
+        assertThat(log.testCases().stream().map(TestCase::label).toList()).containsExactly("one", "two").inOrder();
+        assertThat(log.testCases().get(1).log()).isEqualTo("remainder\n\t\t=== first Summary ===\nPASS: two");
+        assertThat(log.log()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepStartAndEndOfLongTestCase() {
+        final DejagnuLog log = split(new TestCaseSplitter(12, TestCaseSplitter.DEFAULT_MAX_TEST_CASES, false), """
+            spawn shell
+            line 1
+            line 2
+            line 3
+            PASS: a
+            \t\t=== Summary ===""");
+
+        assertThat(log.testCases().get(0).log()).isEqualTo("spawn shell\n[... 3 lines omitted ...]\nPASS: a");
+    }
+
+    @Test
+    void shouldOnlyCountTestCasesBeyondLimit() {
+        final DejagnuLog log = split(new TestCaseSplitter(TestCaseSplitter.DEFAULT_WINDOW_LENGTH, 2, false), """
+            spawn shell
+            PASS: a
+            FAIL: b
+            PASS: c
+            FAIL: d
+            \t\t=== Summary ===
+            PASS: e""");
+
+        assertThat(log.testCases()).containsExactly(
+            new TestCase("a", true, "spawn shell\nPASS: a"), new TestCase("b", false, "FAIL: b")
+        ).inOrder();
+        assertThat(log.testCaseCount()).isEqualTo(4);
+        assertThat(log.passedCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.file_exists;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class GlobRequirementTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "src/**/*Test.java; src/**/*Test.java; 1; 2147483647; at least 1",
+        "src/*.java=2; src/*.java; 2; 2; exactly 2",
+        "src/*.java=2..; src/*.java; 2; 2147483647; at least 2",
+        "src/*.java=..3; src/*.java; 0; 3; at most 3",
+        "src/*.java=1..3; src/*.java; 1; 3; between 1 and 3",
+        "a=b/*.txt; a=b/*.txt; 1; 2147483647; at least 1",
+        "a=b/*.txt=0; a=b/*.txt; 0; 0; exactly 0",
+        "*.txt=; *.txt=; 1; 2147483647; at least 1"
+    })
+    void shouldParseRequirement(
+        final String requirement, final String pattern, final int minMatches, final int maxMatches,
+        final String range
+    ) {
+        final GlobRequirement glob = GlobRequirement.parse(requirement);
+
+        assertThat(glob).isEqualTo(new GlobRequirement(pattern, minMatches, maxMatches));
+        assertThat(glob.describeRange()).isEqualTo(range);
+    }
+
+    @Test
+    void shouldCheckNumberOfMatches() {
+        final GlobRequirement glob = GlobRequirement.parse("*.java=1..2");
+
+        assertThat(glob.isSatisfiedBy(0)).isFalse();
+        assertThat(glob.isSatisfiedBy(1)).isTrue();
+        assertThat(glob.isSatisfiedBy(2)).isTrue();
+        assertThat(glob.isSatisfiedBy(3)).isFalse();
+    }
+
+    @Test
+    void shouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> GlobRequirement.parse("*.java=3..2"));
+        assertThrows(IllegalArgumentException.class, () -> GlobRequirement.parse("*.java=99999999999"));
+    }
+}
@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.line_length;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class LineLengthScannerTest {
+
+    private static Map<Integer, Integer> scan(final int maxLength, final byte[] content) throws IOException {
+        return toMap(new LineLengthScanner(maxLength, Integer.MAX_VALUE).scan(new ByteArrayInputStream(content)));
+    }
+
+    private static Map<Integer, Integer> toMap(final LineViolations violations) {
+        final Map<Integer, Integer> lengthsByLine = new TreeMap<>();
+        for (int i = 0; i < violations.size(); ++i) {
+            lengthsByLine.put(violations.line(i), violations.length(i));
+        }
+        return lengthsByLine;
+    }
+
+    private static Map<Integer, Integer> scan(final int maxLength, final String content) throws IOException {
+        return scan(maxLength, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldFindLongLinesWithAllLineTerminators() throws IOException {
+        assertThat(scan(2, "abc\nab\r\nabcd\rab\r\rabc")).containsExactly(1, 3, 3, 4, 6, 3).inOrder();
+    }
+
+    @Test
+    void shouldCountCodePoints() throws IOException {
+        // two-, three-, and four-byte sequences, the last one would be two UTF-16 characters
+        assertThat(scan(3, "äöü\n€€€€\n😀😀😀")).containsExactly(2, 4);
+    }
+
+    @Test
+    void shouldCountMalformedBytesAsSingleCharacters() throws IOException {
+        final byte[] content = { 'a', (byte) 0xC3, '(', '\n', (byte) 0x80, (byte) 0x80, '\n', (byte) 0xE2, (byte) 0x82 };
+
+        assertThat(scan(0, content)).containsExactly(1, 3, 2, 2, 3, 1).inOrder();
+    }
+
+    @Test
+    void shouldMeasureLinesLongerThanBuffer() throws IOException {
+        assertThat(scan(10, "x\n" + "ä".repeat(100_000) + "\r\n")).containsExactly(2, 100_000);
+    }
+
+    @Test
+    void shouldOnlyCountViolationsBeyondLimit() throws IOException {
+        final LineViolations violations = new LineLengthScanner(1, 2)
+            .scan(new ByteArrayInputStream("aa\nb\ncc\ndd\nee".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(violations.count()).isEqualTo(4);
+        assertThat(toMap(violations)).containsExactly(1, 2, 3, 2).inOrder();
+    }
+
+    @Test
+    void shouldMatchDecodedLengthsOfRandomText() throws IOException {
+        final Random random = new Random(42);
+        final String[] parts = { "a", "ä", "€", "\n", "\r", "\r\n", "" };
+
+        for (int i = 0; i < 500; ++i) {
+            final StringBuilder content = new StringBuilder();
+            for (int part = random.nextInt(200); part > 0; --part) {
+                content.append(parts[random.nextInt(parts.length)]);
+            }
+
+            final Map<Integer, Integer> expected = new TreeMap<>();
+            final String[] lines = content.toString().split("\r\n|\r|\n", -1);
+            for (int line = 0; line < lines.length; ++line) {
+                if (lines[line].length() > 3) {
+                    expected.put(line + 1, lines[line].length());
+                }
+            }
+
+            assertThat(scan(3, content.toString())).containsExactlyEntriesIn(expected).inOrder();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.checkers.main_method;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MainMethodCandidatesTest {
+
+    private static final Path CLASSPATH = Path.of("target/test-classes");
+    private static final String EXAMPLES = "de.uni_passau.fim.se2.pipeline_helper.checkers.main_method_examples.";
+
+    @Test
+    void shouldKeepClassesDeclaringOrInheritingMethodsCalledMain() throws IOException {
+        final List<String> classNames = List.of(
+            EXAMPLES + "invalid.Name",
+            EXAMPLES + "invalid.ParameterCount",
+            EXAMPLES + "invalid.SubClass",
+            EXAMPLES + "valid.ImplementingIndirectInterface",
+            EXAMPLES + "valid.SuperClass",
+            EXAMPLES + "valid.DoesNotExist"
+        );
+
+        final List<String> expected = List.of(
+            EXAMPLES + "invalid.ParameterCount",
+            EXAMPLES + "invalid.SubClass",
+            EXAMPLES + "valid.ImplementingIndirectInterface",
+            EXAMPLES + "valid.SuperClass"
+        );
+
+        assertThat(new MainMethodCandidates(CLASSPATH).filter(classNames, 1))
+            .containsExactlyElementsIn(expected).inOrder();
+        assertThat(new MainMethodCandidates(CLASSPATH).filter(classNames, 4))
+            .containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    void shouldRejectInvalidClassFiles(@TempDir final Path classpath) throws IOException {
+        final byte[] classFile = Files.readAllBytes(
+            CLASSPATH.resolve(EXAMPLES.replace('.', '/') + "valid/SuperClass.class")
+        );
+        Files.write(classpath.resolve("Truncated.class"), Arrays.copyOf(classFile, 20));
+        Files.writeString(classpath.resolve("Text.class"), "not a class file");
+
+        final MainMethodCandidates candidates = new MainMethodCandidates(classpath);
+        assertThrows(IOException.class, () -> candidates.filter(List.of("Truncated"), 1));
+        assertThrows(IOException.class, () -> candidates.filter(List.of("Text"), 1));
+    }
+}
@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileIndexTest {
+
+    private static final Set<String> EXCLUDED = FileWalker.DEFAULT_EXCLUDED_DIRECTORIES;
+
+    @TempDir
+    Path root;
+
+    private final FileIndex index = new FileIndex();
+
+    @BeforeEach
+    void createTree() throws IOException {
+        for (final String file : List.of(
+            "B.java", "a/A.java", "a/a.txt", "a/Readme.md", "a/archive.tar.gz", "a/Makefile", "src/Main.java",
+            "target/Main.class", "target/a/A.class", "node_modules/x/Index.java"
+        )) {
+            Files.createDirectories(root.resolve(file).getParent());
+            Files.writeString(root.resolve(file), file);
+        }
+    }
+
+    @Test
+    void shouldFindSameFilesAsWalker() throws IOException {
+        for (final FileWalker walker : List.of(
+            new FileWalker(List.of("java"), List.of(), EXCLUDED),
+            new FileWalker(List.of("java", "txt", "md"), List.of(), EXCLUDED),
+            new FileWalker(List.of("java", "class"), List.of("a/*", "src/**"), EXCLUDED),
+            new FileWalker(List.of("gz", "tar.gz", "Makefile"), List.of(), EXCLUDED),
+            new FileWalker(List.of("java", "class"), List.of(), Set.of(), 4)
+        )) {
+            assertThat(index.files(root, walker)).containsExactlyElementsIn(walker.walk(root)).inOrder();
+        }
+    }
+
+    @Test
+    void shouldWalkSearchPathOnlyOnce() throws IOException {
+        final FileWalker javaFiles = new FileWalker(List.of("java"), List.of(), EXCLUDED);
+        final FileWalker textFiles = new FileWalker(List.of("txt"), List.of(), EXCLUDED);
+
+        assertThat(index.files(root, javaFiles)).hasSize(3);
+        Files.writeString(root.resolve("C.java"), "");
+        Files.writeString(root.resolve("c.txt"), "");
+
+        assertThat(index.files(root, javaFiles)).hasSize(3);
+        assertThat(index.files(root, textFiles)).containsExactly(root.resolve("a/a.txt"));
+    }
+
+    @Test
+    void shouldShareWalkBetweenPathsOfSameDirectory() throws IOException {
+        final FileWalker walker = new FileWalker(List.of("java"), List.of(), EXCLUDED);
+        final Path relative = Path.of("").toAbsolutePath().relativize(root);
+        final Path unnormalised = root.resolve("a/..");
+
+        assertThat(index.files(root, walker)).hasSize(3);
+        Files.writeString(root.resolve("C.java"), "");
+
+        assertThat(index.files(relative, walker)).containsExactly(
+            relative.resolve("B.java"), relative.resolve("a/A.java"), relative.resolve("src/Main.java")
+        ).inOrder();
+        assertThat(index.files(unnormalised, walker)).containsExactly(
+            unnormalised.resolve("B.java"), unnormalised.resolve("a/A.java"), unnormalised.resolve("src/Main.java")
+        ).inOrder();
+    }
+
+    @Test
+    void shouldWalkAgainForOtherExcludedDirectories() throws IOException {
+        final FileWalker excluding = new FileWalker(List.of("class"), List.of(), EXCLUDED);
+        final FileWalker including = new FileWalker(List.of("class"), List.of(), Set.of());
+
+        assertThat(index.files(root, excluding)).isEmpty();
+        assertThat(index.files(root, including))
+            .containsExactly(root.resolve("target/Main.class"), root.resolve("target/a/A.class")).inOrder();
+    }
+
+    @Test
+    void shouldKeepFileAttributes() throws IOException {
+        final FileWalker walker = new FileWalker(List.of("md"), List.of(), Set.of());
+        final Path readme = root.resolve("a/Readme.md");
+
+        assertThat(index.entries(root, walker)).containsExactly(
+            new FileIndex.Entry(readme, Files.size(readme), Files.getLastModifiedTime(readme))
+        );
+    }
+}
@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileListTest {
+
+    private static List<Path> read(final String list) throws IOException {
+        return FileList.read(new ByteArrayInputStream(list.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldReadLineSeparatedPaths() throws IOException {
+        assertThat(read("src/A.java\nsrc/A b.java\r\n\nB.java"))
+            .containsExactly(Path.of("src/A.java"), Path.of("src/A b.java"), Path.of("B.java")).inOrder();
+    }
+
+    @Test
+    void shouldReadNulSeparatedPathsWithLineBreaks() throws IOException {
+        assertThat(read("first\nline\0src/A.java\0\0with\r\nbreak\0"))
+            .containsExactly(Path.of("first\nline"), Path.of("src/A.java"), Path.of("with\r\nbreak")).inOrder();
+    }
+
+    @Test
+    void shouldReadEmptyList() throws IOException {
+        assertThat(read("")).isEmpty();
+        assertThat(read("\n\r\n")).isEmpty();
+    }
+
+    @Test
+    void shouldReadLongListFromFile(@TempDir final Path dir) throws IOException {
+        final List<Path> paths = IntStream.range(0, 5_000).mapToObj(i -> Path.of("src", "File" + i + ".java")).toList();
+        final Path list = dir.resolve("files.txt");
+        Files.write(list, paths.stream().map(Path::toString).toList());
+
+        assertThat(FileList.read(list.toString())).containsExactlyElementsIn(paths).inOrder();
+    }
+}
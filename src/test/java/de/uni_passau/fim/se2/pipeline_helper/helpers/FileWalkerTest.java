@@ -0,0 +1,114 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileWalkerTest {
+
+    @TempDir
+    Path root;
+
+    @BeforeEach
+    void createTree() throws IOException {
+        for (final String file : List.of(
+            "B.java", "a/A.java", "a/a.txt", "a/Readme.md", "src/build/Generated.java", "target/Compiled.java",
+            ".git/hooks/Hook.java", "node_modules/x/Index.java"
+        )) {
+            Files.createDirectories(root.resolve(file).getParent());
+            Files.writeString(root.resolve(file), file);
+        }
+        Files.createDirectories(root.resolve("dir.java"));
+    }
+
+    private List<String> walk(final FileWalker walker, final Path searchPath) throws IOException {
+        return walker.walk(searchPath).stream().map(file -> root.relativize(file).toString()).toList();
+    }
+
+    @Test
+    void shouldFindFilesWithExtensionInAllDirectories() throws IOException {
+        assertThat(FileWalker.files(root, "java").stream().map(file -> root.relativize(file).toString()).toList())
+            .containsExactly(
+                ".git/hooks/Hook.java", "B.java", "a/A.java", "node_modules/x/Index.java", "src/build/Generated.java",
+                "target/Compiled.java"
+            ).inOrder();
+    }
+
+    @Test
+    void shouldSkipExcludedDirectories() throws IOException {
+        final FileWalker walker = new FileWalker(
+            List.of("java", "txt"), List.of(), FileWalker.DEFAULT_EXCLUDED_DIRECTORIES
+        );
+
+        assertThat(walk(walker, root)).containsExactly("B.java", "a/A.java", "a/a.txt").inOrder();
+    }
+
+    @Test
+    void shouldNotSkipExcludedSearchPath() throws IOException {
+        final FileWalker walker = new FileWalker(List.of("java"), List.of(), FileWalker.DEFAULT_EXCLUDED_DIRECTORIES);
+
+        assertThat(walk(walker, root.resolve("target"))).containsExactly("target/Compiled.java");
+    }
+
+    @Test
+    void shouldOnlyFindFilesMatchingIncludes() throws IOException {
+        final FileWalker walker = new FileWalker(List.of("java", "md"), List.of("a/*", "src/**"), Set.of());
+
+        assertThat(walk(walker, root)).containsExactly("a/A.java", "a/Readme.md", "src/build/Generated.java")
+            .inOrder();
+    }
+
+    @Test
+    void shouldFindSameFilesConcurrently() throws IOException {
+        for (int i = 0; i < 200; ++i) {
+            final Path file = root.resolve("deep/d%d/e%d/F%d.java".formatted(i % 7, i % 13, i));
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "");
+        }
+
+        for (final Set<String> excluded : List.of(Set.<String>of(), FileWalker.DEFAULT_EXCLUDED_DIRECTORIES)) {
+            final List<Path> expected = new FileWalker(List.of("java"), List.of(), excluded).walk(root);
+            final FileWalker walker = new FileWalker(List.of("java"), List.of(), excluded, 4);
+
+            assertThat(walker.walk(root)).containsExactlyElementsIn(expected).inOrder();
+        }
+    }
+
+    @Test
+    void shouldAcceptFileAsSearchPathConcurrently() throws IOException {
+        assertThat(FileWalker.files(root.resolve("B.java"), "java", 4)).containsExactly(root.resolve("B.java"));
+    }
+
+    @Test
+    void shouldSelectListedFilesLikeWalk() {
+        final FileWalker walker = new FileWalker(List.of("java"), List.of("a/*", "src/**", "*"), Set.of("build"));
+        final List<Path> listed = List.of(
+            Path.of("outside.java"), root.resolve("a/A.java"), root.resolve("a/a.txt"), root.resolve("missing.java"),
+            root.resolve("src/build/Generated.java"), root.resolve("dir.java"), root.resolve("a/../B.java"),
+            root.resolve("a/A.java")
+        );
+
+        assertThat(walker.select(root, listed)).containsExactly(root.resolve("B.java"), root.resolve("a/A.java"))
+            .inOrder();
+    }
+
+    @Test
+    void shouldRejectMissingSearchPath() {
+        assertThrows(NoSuchFileException.class, () -> FileWalker.files(root.resolve("missing"), "java"));
+        assertThrows(NoSuchFileException.class, () -> FileWalker.files(root.resolve("missing"), "java", 4));
+    }
+}
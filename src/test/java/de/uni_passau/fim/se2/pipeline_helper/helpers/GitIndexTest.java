@@ -0,0 +1,172 @@
+// SPDX-FileCopyrightText: 2026 Pipeline Helper Contributors
+//
+// SPDX-License-Identifier: EUPL-1.2
+
+package de.uni_passau.fim.se2.pipeline_helper.helpers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GitIndexTest {
+
+    private static final int REGULAR_FILE = 0100644;
+    private static final int SYMBOLIC_LINK = 0120000;
+    private static final int SUBMODULE = 0160000;
+
+    private static final String LONG_PATH = "long/" + "x".repeat(5_000) + ".java";
+
+    private record IndexEntry(String path, int mode, int size, int stage, boolean extended) {
+    }
+
+    private static final List<IndexEntry> ENTRIES = List.of(
+        new IndexEntry("README.md", REGULAR_FILE, 12, 0, false),
+        new IndexEntry("lib", SUBMODULE, 0, 0, false),
+        new IndexEntry(LONG_PATH, REGULAR_FILE, 3, 0, false),
+        new IndexEntry("src/Link.java", SYMBOLIC_LINK, 8, 0, true),
+        new IndexEntry("src/Main.java", REGULAR_FILE, 100, 1, false),
+        new IndexEntry("src/Main.java", REGULAR_FILE, 101, 2, false),
+        new IndexEntry("src/Maxi.java", REGULAR_FILE, 0, 0, true)
+    );
+
+    @TempDir
+    Path workTree;
+
+    /**
+     * Writes an index in the format described in {@code gitformat-index(5)}.
+     */
+    private static byte[] index(final int version, final List<IndexEntry> entries) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeBytes("DIRC");
+        output.writeInt(version);
+        output.writeInt(entries.size());
+
+        byte[] previousName = new byte[0];
+        for (final IndexEntry entry : entries) {
+            final int start = bytes.size();
+            final byte[] name = entry.path().getBytes(StandardCharsets.UTF_8);
+            final boolean extended = entry.extended() && version >= 3;
+
+            output.writeInt(1);
+            output.writeInt(2);
+            output.writeInt(1_700_000_000);
+            output.writeInt(123_456_789);
+            output.write(new byte[8]);
+            output.writeInt(entry.mode());
+            output.write(new byte[8]);
+            output.writeInt(entry.size());
+            output.write(new byte[20]);
+            output.writeShort((extended ? 0x4000 : 0) | entry.stage() << 12 | Math.min(name.length, 0xfff));
+            if (extended) {
+                output.writeShort(0x2000);
+            }
+
+            if (version == 4) {
+                int common = 0;
+                while (common < Math.min(name.length, previousName.length) && name[common] == previousName[common]) {
+                    ++common;
+                }
+                writeOffset(output, previousName.length - common);
+                output.write(name, common, name.length - common);
+                output.write(0);
+            }
+            else {
+                output.write(name);
+                do {
+                    output.write(0);
+                }
+                while ((bytes.size() - start) % 8 != 0);
+            }
+            previousName = name;
+        }
+
+        // an extension and the checksum are ignored
+        output.writeBytes("TREE");
+        output.writeInt(0);
+        output.write(new byte[20]);
+        return bytes.toByteArray();
+    }
+
+    private static void writeOffset(final DataOutputStream output, final int offset) throws IOException {
+        final byte[] varint = new byte[8];
+        int position = varint.length - 1;
+        long value = offset;
+        varint[position] = (byte) (value & 0x7f);
+        while ((value >>= 7) != 0) {
+            varint[--position] = (byte) (0x80 | (--value & 0x7f));
+        }
+        output.write(Arrays.copyOfRange(varint, position, varint.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 3, 4 })
+    void shouldListTrackedFiles(final int version) throws IOException {
+        final Path indexFile = Files.write(workTree.resolve("index"), index(version, ENTRIES));
+        final FileTime lastModified = FileTime.from(Instant.ofEpochSecond(1_700_000_000, 123_456_789));
+
+        assertThat(GitIndex.read(indexFile, workTree)).containsExactly(
+            new FileIndex.Entry(workTree.resolve("README.md"), 12, lastModified),
+            new FileIndex.Entry(workTree.resolve(LONG_PATH), 3, lastModified),
+            new FileIndex.Entry(workTree.resolve("src/Link.java"), 8, lastModified),
+            new FileIndex.Entry(workTree.resolve("src/Main.java"), 100, lastModified),
+            new FileIndex.Entry(workTree.resolve("src/Maxi.java"), 0, lastModified)
+        ).inOrder();
+    }
+
+    @Test
+    void shouldFindRepositoryOfSearchPath() throws IOException {
+        Files.createDirectories(workTree.resolve(".git"));
+        Files.write(workTree.resolve(".git/index"), index(2, ENTRIES.subList(0, 1)));
+        final Path searchPath = Files.createDirectories(workTree.resolve("src/main"));
+
+        assertThat(GitIndex.trackedFiles(searchPath).stream().map(FileIndex.Entry::path).toList())
+            .containsExactly(workTree.resolve("README.md"));
+    }
+
+    @Test
+    void shouldFollowGitFileOfLinkedWorkTree() throws IOException {
+        final Path gitDirectory = Files.createDirectories(workTree.resolve("repository.git/worktrees/linked"));
+        Files.write(gitDirectory.resolve("index"), index(4, ENTRIES.subList(0, 1)));
+        final Path linked = Files.createDirectories(workTree.resolve("linked"));
+        Files.writeString(linked.resolve(".git"), "gitdir: ../repository.git/worktrees/linked\n");
+
+        assertThat(GitIndex.trackedFiles(linked).stream().map(FileIndex.Entry::path).toList())
+            .containsExactly(linked.resolve("README.md"));
+    }
+
+    @Test
+    void shouldRejectInvalidIndex() throws IOException {
+        final Path indexFile = workTree.resolve("index");
+
+        Files.writeString(indexFile, "not an index");
+        assertThrows(IOException.class, () -> GitIndex.read(indexFile, workTree));
+
+        Files.write(indexFile, Arrays.copyOf(index(2, ENTRIES), 100));
+        assertThrows(IOException.class, () -> GitIndex.read(indexFile, workTree));
+
+        Files.write(indexFile, index(5, List.of()));
+        assertThrows(IOException.class, () -> GitIndex.read(indexFile, workTree));
+    }
+
+    @Test
+    void shouldRejectPathOutsideOfRepository() {
+        assertThrows(NoSuchFileException.class, () -> GitIndex.trackedFiles(Path.of("/")));
+    }
+}
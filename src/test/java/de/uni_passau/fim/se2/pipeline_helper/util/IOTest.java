@@ -41,7 +41,7 @@ public abstract class IOTest {
 
     @BeforeEach
     void setupCommandLine() {
-        commandLine = new CommandLine(new Main());
+        commandLine = Main.createCommandLine();
     }
 
     @AfterEach